@@ -0,0 +1,132 @@
+package net.binis.codegen.hibernate;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.hibernate.jmh.EnumShape;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.type.descriptor.java.EnumJavaType;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CodeEnumJavaType} conversions against Hibernate's {@link EnumJavaType}. Each invocation moves to the next
+ * enum value.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class CodeEnumJavaTypeBenchmark {
+
+    @Param({"SMALL", "LARGE", "MIXIN"})
+    public EnumShape shape;
+
+    private CodeEnumJavaType codeEnumJavaType;
+    private EnumJavaType enumJavaType;
+
+    private CodeEnum[] codeValues;
+    private Enum<?>[] javaValues;
+    private Short[] ordinals;
+    private Integer[] integers;
+    private String[] names;
+    private int index;
+
+    @Setup
+    public void setup() {
+        codeEnumJavaType = new CodeEnumJavaType(shape.getCodeEnum());
+        enumJavaType = new EnumJavaType(shape.getJavaEnum());
+        codeValues = shape.codeValues();
+        javaValues = shape.javaValues();
+        ordinals = new Short[javaValues.length];
+        integers = new Integer[javaValues.length];
+        names = new String[javaValues.length];
+        for (var i = 0; i < javaValues.length; i++) {
+            ordinals[i] = (short) javaValues[i].ordinal();
+            integers[i] = javaValues[i].ordinal();
+            names[i] = javaValues[i].name();
+        }
+    }
+
+    private int next() {
+        var i = index + 1;
+        if (i == names.length) {
+            i = 0;
+        }
+        index = i;
+        return i;
+    }
+
+    @Benchmark
+    public Object codeEnumWrap() {
+        return codeEnumJavaType.wrap(ordinals[next()], null);
+    }
+
+    @Benchmark
+    public Object hibernateWrap() {
+        return enumJavaType.wrap(ordinals[next()], null);
+    }
+
+    @Benchmark
+    public Object codeEnumUnwrap() {
+        return codeEnumJavaType.unwrap(codeValues[next()], Short.class, null);
+    }
+
+    @Benchmark
+    public Object hibernateUnwrap() {
+        return enumJavaType.unwrap(javaValues[next()], Short.class, null);
+    }
+
+    @Benchmark
+    public Object codeEnumFromName() {
+        return codeEnumJavaType.fromName(names[next()]);
+    }
+
+    @Benchmark
+    public Object hibernateFromName() {
+        return enumJavaType.fromName(names[next()]);
+    }
+
+    @Benchmark
+    public Object codeEnumFromInteger() {
+        return codeEnumJavaType.fromInteger(integers[next()]);
+    }
+
+    @Benchmark
+    public Object hibernateFromOrdinal() {
+        return enumJavaType.fromOrdinal(integers[next()]);
+    }
+
+}
@@ -0,0 +1,145 @@
+package net.binis.codegen.hibernate;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.hibernate.jmh.EnumShape;
+import net.binis.codegen.hibernate.jmh.StubPreparedStatement;
+import net.binis.codegen.hibernate.jmh.StubResultSet;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.WrapperOptions;
+import org.hibernate.type.descriptor.java.EnumJavaType;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.Properties;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CodeEnumType#nullSafeGet}/{@link CodeEnumType#nullSafeSet} against Hibernate's own enum handling (the
+ * {@link EnumJavaType} with the extractor and binder of the JDBC type), reading from and binding to in-process stubs.
+ * Each invocation moves to the next enum value. hibernate-core 7.2.0.Final has no {@code org.hibernate.type.EnumType},
+ * so its {@link EnumJavaType} is the baseline.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class CodeEnumTypeBenchmark {
+
+    @Param({"SMALL", "LARGE", "MIXIN"})
+    public EnumShape shape;
+
+    @Param({"ORDINAL", "NAMED"})
+    public String mode;
+
+    private final StubResultSet resultSet = new StubResultSet();
+    private final StubPreparedStatement statement = new StubPreparedStatement();
+
+    private CodeEnumType codeEnumType;
+    private ValueExtractor extractor;
+    private ValueBinder binder;
+
+    private CodeEnum[] codeValues;
+    private Enum<?>[] javaValues;
+    private Object[] columns;
+    private int index;
+
+    @Setup
+    public void setup() {
+        var named = "NAMED".equals(mode);
+
+        codeEnumType = new CodeEnumType();
+        codeEnumType.setTypeConfiguration(new TypeConfiguration());
+        var properties = new Properties();
+        properties.put(CodeEnumType.ENUM, shape.getCodeEnum().getName());
+        properties.put(CodeEnumType.TYPE, Integer.toString(named ? SqlTypes.VARCHAR : SqlTypes.SMALLINT));
+        codeEnumType.setParameterValues(properties);
+
+        var javaType = new EnumJavaType(shape.getJavaEnum());
+        var jdbcType = named ? VarcharJdbcType.INSTANCE : SmallIntJdbcType.INSTANCE;
+        extractor = jdbcType.getExtractor(javaType);
+        binder = jdbcType.getBinder(javaType);
+
+        codeValues = shape.codeValues();
+        javaValues = shape.javaValues();
+        if (codeValues.length != javaValues.length) {
+            throw new IllegalStateException("Value count mismatch for " + shape);
+        }
+        columns = Arrays.stream(javaValues)
+                .map(v -> named ? v.name() : (Object) (short) v.ordinal())
+                .toArray();
+    }
+
+    private int next() {
+        var i = index + 1;
+        if (i == columns.length) {
+            i = 0;
+        }
+        index = i;
+        return i;
+    }
+
+    @Benchmark
+    public Object codeEnumGet() throws SQLException {
+        resultSet.setValue(columns[next()]);
+        return codeEnumType.nullSafeGet(resultSet, 1, null, null);
+    }
+
+    @Benchmark
+    public Object hibernateGet() throws SQLException {
+        resultSet.setValue(columns[next()]);
+        return extractor.extract(resultSet, 1, (WrapperOptions) null);
+    }
+
+    @Benchmark
+    public StubPreparedStatement codeEnumSet() throws SQLException {
+        codeEnumType.nullSafeSet(statement, codeValues[next()], 1, null);
+        return statement;
+    }
+
+    @Benchmark
+    public StubPreparedStatement hibernateSet() throws SQLException {
+        binder.bind(statement, javaValues[next()], 1, (WrapperOptions) null);
+        return statement;
+    }
+
+}
@@ -0,0 +1,145 @@
+package net.binis.codegen.hibernate;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import net.binis.codegen.hibernate.jmh.ConvertingRow;
+import net.binis.codegen.hibernate.jmh.EnumShape;
+import net.binis.codegen.hibernate.jmh.MemoryTuple;
+import net.binis.codegen.hibernate.jmh.SmallEnum;
+import net.binis.codegen.map.Mapper;
+import net.binis.codegen.map.MappingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * The converting mapping path: {@code Short} ordinals into {@link SmallEnum} and {@code String}s into {@link UUID}s,
+ * through {@link Mapper#convert(Object, Class)}, the {@link TupleMapperConversions} a plan uses and by hand. The
+ * {@code row} benchmarks map a tuple with both columns. Each invocation moves to the next value.
+ * <p>
+ * {@link Mapper} has no ordinal conversion for CodeEnums, {@code mapperEnum} measures a lookup that ends in
+ * {@code null}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class TupleConversionBenchmark {
+
+    private static final int SIZE = 64;
+
+    private SmallEnum[] values;
+    private Short[] ordinals;
+    private String[] ids;
+    private Tuple[] tuples;
+    private Function<Object, Object> enumConversion;
+    private Function<Object, Object> uuidConversion;
+    private CodeHibernate.TupleMapperExecutor executor;
+    private int index;
+
+    @Setup
+    public void setup() {
+        CodeHibernate.initialize();
+        var codeValues = EnumShape.SMALL.codeValues();
+        values = new SmallEnum[codeValues.length];
+        ordinals = new Short[SIZE];
+        ids = new String[SIZE];
+        tuples = new Tuple[SIZE];
+        for (var i = 0; i < codeValues.length; i++) {
+            values[i] = (SmallEnum) codeValues[i];
+        }
+        var elements = MemoryTuple.elements(new String[]{"id", "value"}, new Object[]{"", (short) 0});
+        for (var i = 0; i < SIZE; i++) {
+            ordinals[i] = (short) (i % values.length);
+            ids[i] = UUID.randomUUID().toString();
+            tuples[i] = new MemoryTuple(elements, new Object[]{ids[i], ordinals[i]});
+        }
+        enumConversion = TupleMapperConversions.converter(Short.class, SmallEnum.class);
+        uuidConversion = TupleMapperConversions.converter(String.class, UUID.class);
+        executor = new CodeHibernate.TupleMapperExecutor(tuples[0], new ConvertingRow(), false, false, MappingStrategy.GETTERS_SETTERS, null);
+    }
+
+    private int next() {
+        var i = index + 1;
+        if (i == SIZE) {
+            i = 0;
+        }
+        index = i;
+        return i;
+    }
+
+    @Benchmark
+    public Object mapperEnum() {
+        return Mapper.convert(ordinals[next()], SmallEnum.class);
+    }
+
+    @Benchmark
+    public Object conversionEnum() {
+        return enumConversion.apply(ordinals[next()]);
+    }
+
+    @Benchmark
+    public Object handWrittenEnum() {
+        return values[ordinals[next()]];
+    }
+
+    @Benchmark
+    public Object mapperUuid() {
+        return Mapper.convert(ids[next()], UUID.class);
+    }
+
+    @Benchmark
+    public Object conversionUuid() {
+        return uuidConversion.apply(ids[next()]);
+    }
+
+    @Benchmark
+    public Object handWrittenUuid() {
+        return UUID.fromString(ids[next()]);
+    }
+
+    @Benchmark
+    public Object executorRow() {
+        return executor.map(tuples[next()], new ConvertingRow());
+    }
+
+    @Benchmark
+    public Object handWrittenRow() {
+        return ConvertingRow.map(tuples[next()], values);
+    }
+
+}
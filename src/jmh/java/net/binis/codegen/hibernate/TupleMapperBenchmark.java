@@ -0,0 +1,116 @@
+package net.binis.codegen.hibernate;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import net.binis.codegen.hibernate.jmh.MemoryTuple;
+import net.binis.codegen.hibernate.jmh.TupleDestination;
+import net.binis.codegen.map.MappingStrategy;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * {@link CodeHibernate.TupleMapperExecutor} against a hand-written mapper, for each destination kind, column count
+ * and batch size. {@link CodeHibernate#map(List, Class)} is measured too, kept sequential so all three map on one
+ * thread.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+@SuppressWarnings({"unchecked", "rawtypes"})
+public class TupleMapperBenchmark {
+
+    @Param({"SETTER", "WITHER", "MODIFIER"})
+    public TupleDestination destination;
+
+    @Param({"2", "10", "40"})
+    public int width;
+
+    @Param({"1", "1000", "100000"})
+    public int rows;
+
+    private TupleDestination.Row row;
+    private List<Tuple> tuples;
+    private CodeHibernate.TupleMapperExecutor executor;
+    private int threshold;
+
+    @Setup
+    public void setup() {
+        CodeHibernate.initialize();
+        row = destination.row(width);
+        var aliases = TupleDestination.aliases(width);
+        var elements = MemoryTuple.elements(aliases, TupleDestination.values(width, 0));
+        tuples = new ArrayList<>(rows);
+        for (var i = 0; i < rows; i++) {
+            tuples.add(new MemoryTuple(elements, TupleDestination.values(width, i)));
+        }
+        executor = new CodeHibernate.TupleMapperExecutor(tuples.get(0), row.creator().get(), false, false, MappingStrategy.GETTERS_SETTERS, null);
+        threshold = CodeHibernate.getParallelThreshold();
+        CodeHibernate.setParallelThreshold(Integer.MAX_VALUE);
+    }
+
+    @TearDown
+    public void tearDown() {
+        CodeHibernate.setParallelThreshold(threshold);
+    }
+
+    @Benchmark
+    public Object executor() {
+        var result = new Object[rows];
+        for (var i = 0; i < rows; i++) {
+            result[i] = executor.map(tuples.get(i), row.creator().get());
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object handWritten() {
+        var result = new Object[rows];
+        for (var i = 0; i < rows; i++) {
+            result[i] = row.mapper().apply(tuples.get(i));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public Object codeHibernate() {
+        return CodeHibernate.map(tuples, row.type());
+    }
+
+}
@@ -0,0 +1,48 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import lombok.Data;
+
+import java.util.UUID;
+
+/**
+ * Destination of the converting mapping path, the tuple holds a {@code Short} ordinal and a {@code String} id.
+ */
+@Data
+public class ConvertingRow {
+
+    private UUID id;
+    private SmallEnum value;
+
+    /**
+     * Hand-written mapping of a tuple
+     */
+    public static ConvertingRow map(Tuple tuple, SmallEnum[] values) {
+        var result = new ConvertingRow();
+        result.setId(UUID.fromString((String) tuple.get(0)));
+        result.setValue(values[(Short) tuple.get(1)]);
+        return result;
+    }
+
+}
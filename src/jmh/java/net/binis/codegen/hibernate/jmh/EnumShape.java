@@ -0,0 +1,89 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+
+import java.util.Arrays;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * CodeEnum types of the benchmarks, with plain Java enums of the same values for the Hibernate baseline.
+ * <p>
+ * The {@link MixEnum} values are mixed into {@link SmallEnum} once it's loaded, so the shapes must not share a JVM
+ * (JMH forks take care of that).
+ */
+public enum EnumShape {
+
+    SMALL(SmallEnum.class, SmallJavaEnum.class, null),
+    LARGE(LargeEnum.class, LargeJavaEnum.class, null),
+    MIXIN(SmallEnum.class, MixJavaEnum.class, MixEnum.class);
+
+    private final Class<? extends CodeEnum> codeEnum;
+    private final Class<? extends Enum<?>> javaEnum;
+    private final Class<?> mixIn;
+
+    EnumShape(Class<? extends CodeEnum> codeEnum, Class<? extends Enum<?>> javaEnum, Class<?> mixIn) {
+        this.codeEnum = codeEnum;
+        this.javaEnum = javaEnum;
+        this.mixIn = mixIn;
+    }
+
+    /**
+     * The CodeEnum type, initialized so its values (and the mixed in ones) are registered
+     */
+    public Class<? extends CodeEnum> getCodeEnum() {
+        initialize(codeEnum);
+        if (nonNull(mixIn)) {
+            initialize(mixIn);
+        }
+        return codeEnum;
+    }
+
+    public Class<? extends Enum<?>> getJavaEnum() {
+        return javaEnum;
+    }
+
+    /**
+     * Known values of the CodeEnum type, in ordinal order
+     */
+    public CodeEnum[] codeValues() {
+        return Arrays.stream(CodeFactory.enumValues(getCodeEnum()))
+                .filter(v -> !v.unknown())
+                .toArray(CodeEnum[]::new);
+    }
+
+    public Enum<?>[] javaValues() {
+        return javaEnum.getEnumConstants();
+    }
+
+    private static void initialize(Class<?> cls) {
+        try {
+            Class.forName(cls.getName(), true, cls.getClassLoader());
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+}
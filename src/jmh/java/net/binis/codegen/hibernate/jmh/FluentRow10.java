@@ -0,0 +1,49 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Fluent methods of {@link ModifierRow10}
+ */
+public interface FluentRow10 {
+
+    FluentRow10 c00(String c00);
+
+    FluentRow10 c01(Long c01);
+
+    FluentRow10 c02(Integer c02);
+
+    FluentRow10 c03(String c03);
+
+    FluentRow10 c04(Long c04);
+
+    FluentRow10 c05(Integer c05);
+
+    FluentRow10 c06(String c06);
+
+    FluentRow10 c07(Long c07);
+
+    FluentRow10 c08(Integer c08);
+
+    FluentRow10 c09(String c09);
+
+}
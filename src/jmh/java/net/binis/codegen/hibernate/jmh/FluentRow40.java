@@ -0,0 +1,109 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Fluent methods of {@link ModifierRow40}
+ */
+public interface FluentRow40 {
+
+    FluentRow40 c00(String c00);
+
+    FluentRow40 c01(Long c01);
+
+    FluentRow40 c02(Integer c02);
+
+    FluentRow40 c03(String c03);
+
+    FluentRow40 c04(Long c04);
+
+    FluentRow40 c05(Integer c05);
+
+    FluentRow40 c06(String c06);
+
+    FluentRow40 c07(Long c07);
+
+    FluentRow40 c08(Integer c08);
+
+    FluentRow40 c09(String c09);
+
+    FluentRow40 c10(Long c10);
+
+    FluentRow40 c11(Integer c11);
+
+    FluentRow40 c12(String c12);
+
+    FluentRow40 c13(Long c13);
+
+    FluentRow40 c14(Integer c14);
+
+    FluentRow40 c15(String c15);
+
+    FluentRow40 c16(Long c16);
+
+    FluentRow40 c17(Integer c17);
+
+    FluentRow40 c18(String c18);
+
+    FluentRow40 c19(Long c19);
+
+    FluentRow40 c20(Integer c20);
+
+    FluentRow40 c21(String c21);
+
+    FluentRow40 c22(Long c22);
+
+    FluentRow40 c23(Integer c23);
+
+    FluentRow40 c24(String c24);
+
+    FluentRow40 c25(Long c25);
+
+    FluentRow40 c26(Integer c26);
+
+    FluentRow40 c27(String c27);
+
+    FluentRow40 c28(Long c28);
+
+    FluentRow40 c29(Integer c29);
+
+    FluentRow40 c30(String c30);
+
+    FluentRow40 c31(Long c31);
+
+    FluentRow40 c32(Integer c32);
+
+    FluentRow40 c33(String c33);
+
+    FluentRow40 c34(Long c34);
+
+    FluentRow40 c35(Integer c35);
+
+    FluentRow40 c36(String c36);
+
+    FluentRow40 c37(Long c37);
+
+    FluentRow40 c38(Integer c38);
+
+    FluentRow40 c39(String c39);
+
+}
@@ -0,0 +1,109 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * In-memory {@link Tuple}, the rows of a result share one element list like Hibernate's tuples do.
+ */
+public final class MemoryTuple implements Tuple {
+
+    private final List<TupleElement<?>> elements;
+    private final Object[] values;
+
+    public MemoryTuple(List<TupleElement<?>> elements, Object[] values) {
+        this.elements = elements;
+        this.values = values;
+    }
+
+    /**
+     * Elements of the given aliases, typed by the column values of the first row
+     */
+    public static List<TupleElement<?>> elements(String[] aliases, Object[] values) {
+        var result = new ArrayList<TupleElement<?>>(aliases.length);
+        for (var i = 0; i < aliases.length; i++) {
+            result.add(new Element(aliases[i], values[i].getClass()));
+        }
+        return List.copyOf(result);
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <X> X get(TupleElement<X> tupleElement) {
+        return (X) values[elements.indexOf(tupleElement)];
+    }
+
+    @Override
+    public <X> X get(String alias, Class<X> type) {
+        return type.cast(get(alias));
+    }
+
+    @Override
+    public Object get(String alias) {
+        for (var i = 0; i < elements.size(); i++) {
+            if (alias.equals(elements.get(i).getAlias())) {
+                return values[i];
+            }
+        }
+        throw new IllegalArgumentException(alias);
+    }
+
+    @Override
+    public <X> X get(int i, Class<X> type) {
+        return type.cast(values[i]);
+    }
+
+    @Override
+    public Object get(int i) {
+        return values[i];
+    }
+
+    @Override
+    public Object[] toArray() {
+        return values.clone();
+    }
+
+    @Override
+    public List<TupleElement<?>> getElements() {
+        return elements;
+    }
+
+    private record Element(String alias, Class<?> javaType) implements TupleElement<Object> {
+
+        @Override
+        public Class<?> getJavaType() {
+            return javaType;
+        }
+
+        @Override
+        public String getAlias() {
+            return alias;
+        }
+
+    }
+
+}
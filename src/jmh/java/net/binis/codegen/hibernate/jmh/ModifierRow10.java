@@ -0,0 +1,134 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import lombok.Getter;
+import net.binis.codegen.modifier.Modifier;
+
+/**
+ * Modifier destination with 10 columns, modified through its own fluent methods
+ */
+@Getter
+public class ModifierRow10 implements FluentRow10, Modifier<ModifierRow10> {
+
+    private String c00;
+    private Long c01;
+    private Integer c02;
+    private String c03;
+    private Long c04;
+    private Integer c05;
+    private String c06;
+    private Long c07;
+    private Integer c08;
+    private String c09;
+
+    @Override
+    public FluentRow10 c00(String c00) {
+        this.c00 = c00;
+        return this;
+    }
+
+    @Override
+    public FluentRow10 c01(Long c01) {
+        this.c01 = c01;
+        return this;
+    }
+
+    @Override
+    public FluentRow10 c02(Integer c02) {
+        this.c02 = c02;
+        return this;
+    }
+
+    @Override
+    public FluentRow10 c03(String c03) {
+        this.c03 = c03;
+        return this;
+    }
+
+    @Override
+    public FluentRow10 c04(Long c04) {
+        this.c04 = c04;
+        return this;
+    }
+
+    @Override
+    public FluentRow10 c05(Integer c05) {
+        this.c05 = c05;
+        return this;
+    }
+
+    @Override
+    public FluentRow10 c06(String c06) {
+        this.c06 = c06;
+        return this;
+    }
+
+    @Override
+    public FluentRow10 c07(Long c07) {
+        this.c07 = c07;
+        return this;
+    }
+
+    @Override
+    public FluentRow10 c08(Integer c08) {
+        this.c08 = c08;
+        return this;
+    }
+
+    @Override
+    public FluentRow10 c09(String c09) {
+        this.c09 = c09;
+        return this;
+    }
+
+    @Override
+    public ModifierRow10 getObject() {
+        return this;
+    }
+
+    @Override
+    public void setObject(ModifierRow10 object) {
+        //Do nothing
+    }
+
+    /**
+     * Hand-written mapping of a tuple
+     */
+    public static ModifierRow10 map(Tuple tuple) {
+        var result = new ModifierRow10();
+        result
+                .c00((String) tuple.get(0))
+                .c01((Long) tuple.get(1))
+                .c02((Integer) tuple.get(2))
+                .c03((String) tuple.get(3))
+                .c04((Long) tuple.get(4))
+                .c05((Integer) tuple.get(5))
+                .c06((String) tuple.get(6))
+                .c07((Long) tuple.get(7))
+                .c08((Integer) tuple.get(8))
+                .c09((String) tuple.get(9));
+        return result;
+    }
+
+}
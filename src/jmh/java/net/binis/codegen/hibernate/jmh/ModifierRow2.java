@@ -0,0 +1,70 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import lombok.Getter;
+import net.binis.codegen.modifier.Modifier;
+
+/**
+ * Modifier destination with 2 columns, modified through its own fluent methods
+ */
+@Getter
+public class ModifierRow2 implements FluentRow2, Modifier<ModifierRow2> {
+
+    private String c00;
+    private Long c01;
+
+    @Override
+    public FluentRow2 c00(String c00) {
+        this.c00 = c00;
+        return this;
+    }
+
+    @Override
+    public FluentRow2 c01(Long c01) {
+        this.c01 = c01;
+        return this;
+    }
+
+    @Override
+    public ModifierRow2 getObject() {
+        return this;
+    }
+
+    @Override
+    public void setObject(ModifierRow2 object) {
+        //Do nothing
+    }
+
+    /**
+     * Hand-written mapping of a tuple
+     */
+    public static ModifierRow2 map(Tuple tuple) {
+        var result = new ModifierRow2();
+        result
+                .c00((String) tuple.get(0))
+                .c01((Long) tuple.get(1));
+        return result;
+    }
+
+}
@@ -0,0 +1,374 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import lombok.Getter;
+import net.binis.codegen.modifier.Modifier;
+
+/**
+ * Modifier destination with 40 columns, modified through its own fluent methods
+ */
+@Getter
+public class ModifierRow40 implements FluentRow40, Modifier<ModifierRow40> {
+
+    private String c00;
+    private Long c01;
+    private Integer c02;
+    private String c03;
+    private Long c04;
+    private Integer c05;
+    private String c06;
+    private Long c07;
+    private Integer c08;
+    private String c09;
+    private Long c10;
+    private Integer c11;
+    private String c12;
+    private Long c13;
+    private Integer c14;
+    private String c15;
+    private Long c16;
+    private Integer c17;
+    private String c18;
+    private Long c19;
+    private Integer c20;
+    private String c21;
+    private Long c22;
+    private Integer c23;
+    private String c24;
+    private Long c25;
+    private Integer c26;
+    private String c27;
+    private Long c28;
+    private Integer c29;
+    private String c30;
+    private Long c31;
+    private Integer c32;
+    private String c33;
+    private Long c34;
+    private Integer c35;
+    private String c36;
+    private Long c37;
+    private Integer c38;
+    private String c39;
+
+    @Override
+    public FluentRow40 c00(String c00) {
+        this.c00 = c00;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c01(Long c01) {
+        this.c01 = c01;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c02(Integer c02) {
+        this.c02 = c02;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c03(String c03) {
+        this.c03 = c03;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c04(Long c04) {
+        this.c04 = c04;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c05(Integer c05) {
+        this.c05 = c05;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c06(String c06) {
+        this.c06 = c06;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c07(Long c07) {
+        this.c07 = c07;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c08(Integer c08) {
+        this.c08 = c08;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c09(String c09) {
+        this.c09 = c09;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c10(Long c10) {
+        this.c10 = c10;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c11(Integer c11) {
+        this.c11 = c11;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c12(String c12) {
+        this.c12 = c12;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c13(Long c13) {
+        this.c13 = c13;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c14(Integer c14) {
+        this.c14 = c14;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c15(String c15) {
+        this.c15 = c15;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c16(Long c16) {
+        this.c16 = c16;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c17(Integer c17) {
+        this.c17 = c17;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c18(String c18) {
+        this.c18 = c18;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c19(Long c19) {
+        this.c19 = c19;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c20(Integer c20) {
+        this.c20 = c20;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c21(String c21) {
+        this.c21 = c21;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c22(Long c22) {
+        this.c22 = c22;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c23(Integer c23) {
+        this.c23 = c23;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c24(String c24) {
+        this.c24 = c24;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c25(Long c25) {
+        this.c25 = c25;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c26(Integer c26) {
+        this.c26 = c26;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c27(String c27) {
+        this.c27 = c27;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c28(Long c28) {
+        this.c28 = c28;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c29(Integer c29) {
+        this.c29 = c29;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c30(String c30) {
+        this.c30 = c30;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c31(Long c31) {
+        this.c31 = c31;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c32(Integer c32) {
+        this.c32 = c32;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c33(String c33) {
+        this.c33 = c33;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c34(Long c34) {
+        this.c34 = c34;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c35(Integer c35) {
+        this.c35 = c35;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c36(String c36) {
+        this.c36 = c36;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c37(Long c37) {
+        this.c37 = c37;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c38(Integer c38) {
+        this.c38 = c38;
+        return this;
+    }
+
+    @Override
+    public FluentRow40 c39(String c39) {
+        this.c39 = c39;
+        return this;
+    }
+
+    @Override
+    public ModifierRow40 getObject() {
+        return this;
+    }
+
+    @Override
+    public void setObject(ModifierRow40 object) {
+        //Do nothing
+    }
+
+    /**
+     * Hand-written mapping of a tuple
+     */
+    public static ModifierRow40 map(Tuple tuple) {
+        var result = new ModifierRow40();
+        result
+                .c00((String) tuple.get(0))
+                .c01((Long) tuple.get(1))
+                .c02((Integer) tuple.get(2))
+                .c03((String) tuple.get(3))
+                .c04((Long) tuple.get(4))
+                .c05((Integer) tuple.get(5))
+                .c06((String) tuple.get(6))
+                .c07((Long) tuple.get(7))
+                .c08((Integer) tuple.get(8))
+                .c09((String) tuple.get(9))
+                .c10((Long) tuple.get(10))
+                .c11((Integer) tuple.get(11))
+                .c12((String) tuple.get(12))
+                .c13((Long) tuple.get(13))
+                .c14((Integer) tuple.get(14))
+                .c15((String) tuple.get(15))
+                .c16((Long) tuple.get(16))
+                .c17((Integer) tuple.get(17))
+                .c18((String) tuple.get(18))
+                .c19((Long) tuple.get(19))
+                .c20((Integer) tuple.get(20))
+                .c21((String) tuple.get(21))
+                .c22((Long) tuple.get(22))
+                .c23((Integer) tuple.get(23))
+                .c24((String) tuple.get(24))
+                .c25((Long) tuple.get(25))
+                .c26((Integer) tuple.get(26))
+                .c27((String) tuple.get(27))
+                .c28((Long) tuple.get(28))
+                .c29((Integer) tuple.get(29))
+                .c30((String) tuple.get(30))
+                .c31((Long) tuple.get(31))
+                .c32((Integer) tuple.get(32))
+                .c33((String) tuple.get(33))
+                .c34((Long) tuple.get(34))
+                .c35((Integer) tuple.get(35))
+                .c36((String) tuple.get(36))
+                .c37((Long) tuple.get(37))
+                .c38((Integer) tuple.get(38))
+                .c39((String) tuple.get(39));
+        return result;
+    }
+
+}
@@ -0,0 +1,62 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import lombok.Data;
+
+/**
+ * Setter destination with 10 columns
+ */
+@Data
+public class SetterRow10 {
+
+    private String c00;
+    private Long c01;
+    private Integer c02;
+    private String c03;
+    private Long c04;
+    private Integer c05;
+    private String c06;
+    private Long c07;
+    private Integer c08;
+    private String c09;
+
+    /**
+     * Hand-written mapping of a tuple
+     */
+    public static SetterRow10 map(Tuple tuple) {
+        var result = new SetterRow10();
+        result.setC00((String) tuple.get(0));
+        result.setC01((Long) tuple.get(1));
+        result.setC02((Integer) tuple.get(2));
+        result.setC03((String) tuple.get(3));
+        result.setC04((Long) tuple.get(4));
+        result.setC05((Integer) tuple.get(5));
+        result.setC06((String) tuple.get(6));
+        result.setC07((Long) tuple.get(7));
+        result.setC08((Integer) tuple.get(8));
+        result.setC09((String) tuple.get(9));
+        return result;
+    }
+
+}
@@ -0,0 +1,46 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import lombok.Data;
+
+/**
+ * Setter destination with 2 columns
+ */
+@Data
+public class SetterRow2 {
+
+    private String c00;
+    private Long c01;
+
+    /**
+     * Hand-written mapping of a tuple
+     */
+    public static SetterRow2 map(Tuple tuple) {
+        var result = new SetterRow2();
+        result.setC00((String) tuple.get(0));
+        result.setC01((Long) tuple.get(1));
+        return result;
+    }
+
+}
@@ -0,0 +1,122 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import lombok.Data;
+
+/**
+ * Setter destination with 40 columns
+ */
+@Data
+public class SetterRow40 {
+
+    private String c00;
+    private Long c01;
+    private Integer c02;
+    private String c03;
+    private Long c04;
+    private Integer c05;
+    private String c06;
+    private Long c07;
+    private Integer c08;
+    private String c09;
+    private Long c10;
+    private Integer c11;
+    private String c12;
+    private Long c13;
+    private Integer c14;
+    private String c15;
+    private Long c16;
+    private Integer c17;
+    private String c18;
+    private Long c19;
+    private Integer c20;
+    private String c21;
+    private Long c22;
+    private Integer c23;
+    private String c24;
+    private Long c25;
+    private Integer c26;
+    private String c27;
+    private Long c28;
+    private Integer c29;
+    private String c30;
+    private Long c31;
+    private Integer c32;
+    private String c33;
+    private Long c34;
+    private Integer c35;
+    private String c36;
+    private Long c37;
+    private Integer c38;
+    private String c39;
+
+    /**
+     * Hand-written mapping of a tuple
+     */
+    public static SetterRow40 map(Tuple tuple) {
+        var result = new SetterRow40();
+        result.setC00((String) tuple.get(0));
+        result.setC01((Long) tuple.get(1));
+        result.setC02((Integer) tuple.get(2));
+        result.setC03((String) tuple.get(3));
+        result.setC04((Long) tuple.get(4));
+        result.setC05((Integer) tuple.get(5));
+        result.setC06((String) tuple.get(6));
+        result.setC07((Long) tuple.get(7));
+        result.setC08((Integer) tuple.get(8));
+        result.setC09((String) tuple.get(9));
+        result.setC10((Long) tuple.get(10));
+        result.setC11((Integer) tuple.get(11));
+        result.setC12((String) tuple.get(12));
+        result.setC13((Long) tuple.get(13));
+        result.setC14((Integer) tuple.get(14));
+        result.setC15((String) tuple.get(15));
+        result.setC16((Long) tuple.get(16));
+        result.setC17((Integer) tuple.get(17));
+        result.setC18((String) tuple.get(18));
+        result.setC19((Long) tuple.get(19));
+        result.setC20((Integer) tuple.get(20));
+        result.setC21((String) tuple.get(21));
+        result.setC22((Long) tuple.get(22));
+        result.setC23((Integer) tuple.get(23));
+        result.setC24((String) tuple.get(24));
+        result.setC25((Long) tuple.get(25));
+        result.setC26((Integer) tuple.get(26));
+        result.setC27((String) tuple.get(27));
+        result.setC28((Long) tuple.get(28));
+        result.setC29((Integer) tuple.get(29));
+        result.setC30((String) tuple.get(30));
+        result.setC31((Long) tuple.get(31));
+        result.setC32((Integer) tuple.get(32));
+        result.setC33((String) tuple.get(33));
+        result.setC34((Long) tuple.get(34));
+        result.setC35((Integer) tuple.get(35));
+        result.setC36((String) tuple.get(36));
+        result.setC37((Long) tuple.get(37));
+        result.setC38((Integer) tuple.get(38));
+        result.setC39((String) tuple.get(39));
+        return result;
+    }
+
+}
@@ -0,0 +1,569 @@
+package net.binis.codegen.hibernate.jmh;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.ParameterMetaData;
+import java.sql.PreparedStatement;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+
+/**
+ * In-process prepared statement remembering the last bound value. Only the setters used by the enum types are
+ * implemented.
+ */
+public class StubPreparedStatement implements PreparedStatement {
+
+    private long number;
+    private Object object;
+    private int nullType;
+
+    public long getNumber() {
+        return number;
+    }
+
+    public Object getObject() {
+        return object;
+    }
+
+    public int getNullType() {
+        return nullType;
+    }
+
+    @Override
+    public void addBatch() {
+        throw unsupported();
+    }
+
+    @Override
+    public void addBatch(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void cancel() {
+        throw unsupported();
+    }
+
+    @Override
+    public void clearBatch() {
+        throw unsupported();
+    }
+
+    @Override
+    public void clearParameters() {
+        number = 0;
+        object = null;
+        nullType = 0;
+    }
+
+    @Override
+    public void clearWarnings() {
+        throw unsupported();
+    }
+
+    @Override
+    public void close() {
+        //Do nothing
+    }
+
+    @Override
+    public void closeOnCompletion() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean execute() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean execute(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean execute(String p0, int p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean execute(String p0, int[] p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean execute(String p0, String[] p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public int[] executeBatch() {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSet executeQuery() {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSet executeQuery(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public int executeUpdate() {
+        throw unsupported();
+    }
+
+    @Override
+    public int executeUpdate(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public int executeUpdate(String p0, int p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public int executeUpdate(String p0, int[] p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public int executeUpdate(String p0, String[] p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public Connection getConnection() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getFetchDirection() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getFetchSize() {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSet getGeneratedKeys() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getMaxFieldSize() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getMaxRows() {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean getMoreResults() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean getMoreResults(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public ParameterMetaData getParameterMetaData() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getQueryTimeout() {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSet getResultSet() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getResultSetConcurrency() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getResultSetHoldability() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getResultSetType() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getUpdateCount() {
+        throw unsupported();
+    }
+
+    @Override
+    public SQLWarning getWarnings() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isCloseOnCompletion() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return false;
+    }
+
+    @Override
+    public boolean isPoolable() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setArray(int p0, Array p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsciiStream(int p0, InputStream p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsciiStream(int p0, InputStream p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setAsciiStream(int p0, InputStream p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBigDecimal(int p0, BigDecimal p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBinaryStream(int p0, InputStream p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBinaryStream(int p0, InputStream p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBinaryStream(int p0, InputStream p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlob(int p0, InputStream p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlob(int p0, InputStream p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBlob(int p0, Blob p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setBoolean(int p0, boolean p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setByte(int p0, byte p1) {
+        number = p1;
+    }
+
+    @Override
+    public void setBytes(int p0, byte[] p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCharacterStream(int p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCharacterStream(int p0, Reader p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCharacterStream(int p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setClob(int p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setClob(int p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setClob(int p0, Clob p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setCursorName(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setDate(int p0, Date p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setDate(int p0, Date p1, Calendar p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setDouble(int p0, double p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setEscapeProcessing(boolean p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setFetchDirection(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setFetchSize(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setFloat(int p0, float p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setInt(int p0, int p1) {
+        number = p1;
+    }
+
+    @Override
+    public void setLong(int p0, long p1) {
+        number = p1;
+    }
+
+    @Override
+    public void setMaxFieldSize(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setMaxRows(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNCharacterStream(int p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNCharacterStream(int p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNClob(int p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNClob(int p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNClob(int p0, NClob p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setNString(int p0, String p1) {
+        object = p1;
+    }
+
+    @Override
+    public void setNull(int p0, int p1) {
+        nullType = p1;
+        object = null;
+    }
+
+    @Override
+    public void setNull(int p0, int p1, String p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setObject(int p0, Object p1) {
+        object = p1;
+    }
+
+    @Override
+    public void setObject(int p0, Object p1, int p2) {
+        object = p1;
+    }
+
+    @Override
+    public void setObject(int p0, Object p1, int p2, int p3) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setPoolable(boolean p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setQueryTimeout(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setRef(int p0, Ref p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setRowId(int p0, RowId p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setSQLXML(int p0, SQLXML p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setShort(int p0, short p1) {
+        number = p1;
+    }
+
+    @Override
+    public void setString(int p0, String p1) {
+        object = p1;
+    }
+
+    @Override
+    public void setTime(int p0, Time p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setTime(int p0, Time p1, Calendar p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setTimestamp(int p0, Timestamp p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setTimestamp(int p0, Timestamp p1, Calendar p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setURL(int p0, URL p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setUnicodeStream(int p0, InputStream p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> p0) {
+        throw unsupported();
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException();
+    }
+
+}
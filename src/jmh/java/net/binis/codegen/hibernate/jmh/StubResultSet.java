@@ -0,0 +1,1028 @@
+package net.binis.codegen.hibernate.jmh;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.io.InputStream;
+import java.io.Reader;
+import java.math.BigDecimal;
+import java.net.URL;
+import java.sql.Array;
+import java.sql.Blob;
+import java.sql.Clob;
+import java.sql.Date;
+import java.sql.NClob;
+import java.sql.Ref;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.RowId;
+import java.sql.SQLWarning;
+import java.sql.SQLXML;
+import java.sql.Statement;
+import java.sql.Time;
+import java.sql.Timestamp;
+import java.util.Calendar;
+import java.util.Map;
+
+import static java.util.Objects.isNull;
+
+/**
+ * In-process result set with a single current row, returning the same value for every column. Only the getters
+ * used by the enum types are implemented.
+ */
+public class StubResultSet implements ResultSet {
+
+    private Object value;
+    private boolean wasNull;
+
+    /**
+     * Value returned for every column of the current row
+     */
+    public void setValue(Object value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean absolute(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void afterLast() {
+        throw unsupported();
+    }
+
+    @Override
+    public void beforeFirst() {
+        throw unsupported();
+    }
+
+    @Override
+    public void cancelRowUpdates() {
+        throw unsupported();
+    }
+
+    @Override
+    public void clearWarnings() {
+        throw unsupported();
+    }
+
+    @Override
+    public void close() {
+        //Do nothing
+    }
+
+    @Override
+    public void deleteRow() {
+        throw unsupported();
+    }
+
+    @Override
+    public int findColumn(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean first() {
+        throw unsupported();
+    }
+
+    @Override
+    public Array getArray(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Array getArray(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public InputStream getAsciiStream(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public InputStream getAsciiStream(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(int p0, int p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public BigDecimal getBigDecimal(String p0, int p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public InputStream getBinaryStream(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public InputStream getBinaryStream(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Blob getBlob(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Blob getBlob(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean getBoolean(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean getBoolean(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public byte getByte(int p0) {
+        wasNull = isNull(value);
+        return wasNull ? 0 : ((Number) value).byteValue();
+    }
+
+    @Override
+    public byte getByte(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public byte[] getBytes(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public byte[] getBytes(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Reader getCharacterStream(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Reader getCharacterStream(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Clob getClob(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Clob getClob(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public int getConcurrency() {
+        throw unsupported();
+    }
+
+    @Override
+    public String getCursorName() {
+        throw unsupported();
+    }
+
+    @Override
+    public Date getDate(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Date getDate(int p0, Calendar p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public Date getDate(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Date getDate(String p0, Calendar p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public double getDouble(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public double getDouble(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public int getFetchDirection() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getFetchSize() {
+        throw unsupported();
+    }
+
+    @Override
+    public float getFloat(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public float getFloat(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public int getHoldability() {
+        throw unsupported();
+    }
+
+    @Override
+    public int getInt(int p0) {
+        wasNull = isNull(value);
+        return wasNull ? 0 : ((Number) value).intValue();
+    }
+
+    @Override
+    public int getInt(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public long getLong(int p0) {
+        wasNull = isNull(value);
+        return wasNull ? 0 : ((Number) value).longValue();
+    }
+
+    @Override
+    public long getLong(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public ResultSetMetaData getMetaData() {
+        throw unsupported();
+    }
+
+    @Override
+    public Reader getNCharacterStream(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Reader getNCharacterStream(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public NClob getNClob(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public NClob getNClob(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public String getNString(int p0) {
+        wasNull = isNull(value);
+        return (String) value;
+    }
+
+    @Override
+    public String getNString(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Object getObject(int p0) {
+        wasNull = isNull(value);
+        return value;
+    }
+
+    @Override
+    public <T> T getObject(int p0, Class<T> p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public Object getObject(int p0, Map<String, Class<?>> p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public Object getObject(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public <T> T getObject(String p0, Class<T> p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public Object getObject(String p0, Map<String, Class<?>> p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public Ref getRef(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Ref getRef(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public int getRow() {
+        throw unsupported();
+    }
+
+    @Override
+    public RowId getRowId(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public RowId getRowId(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public SQLXML getSQLXML(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public SQLXML getSQLXML(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public short getShort(int p0) {
+        wasNull = isNull(value);
+        return wasNull ? 0 : ((Number) value).shortValue();
+    }
+
+    @Override
+    public short getShort(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Statement getStatement() {
+        throw unsupported();
+    }
+
+    @Override
+    public String getString(int p0) {
+        wasNull = isNull(value);
+        return (String) value;
+    }
+
+    @Override
+    public String getString(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Time getTime(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Time getTime(int p0, Calendar p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public Time getTime(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Time getTime(String p0, Calendar p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public Timestamp getTimestamp(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Timestamp getTimestamp(int p0, Calendar p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public Timestamp getTimestamp(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public Timestamp getTimestamp(String p0, Calendar p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public int getType() {
+        throw unsupported();
+    }
+
+    @Override
+    public URL getURL(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public URL getURL(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public InputStream getUnicodeStream(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public InputStream getUnicodeStream(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public SQLWarning getWarnings() {
+        throw unsupported();
+    }
+
+    @Override
+    public void insertRow() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isAfterLast() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isBeforeFirst() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isClosed() {
+        return false;
+    }
+
+    @Override
+    public boolean isFirst() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isLast() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean isWrapperFor(Class<?> p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean last() {
+        throw unsupported();
+    }
+
+    @Override
+    public void moveToCurrentRow() {
+        throw unsupported();
+    }
+
+    @Override
+    public void moveToInsertRow() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean next() {
+        return true;
+    }
+
+    @Override
+    public boolean previous() {
+        throw unsupported();
+    }
+
+    @Override
+    public void refreshRow() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean relative(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean rowDeleted() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean rowInserted() {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean rowUpdated() {
+        throw unsupported();
+    }
+
+    @Override
+    public void setFetchDirection(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void setFetchSize(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public <T> T unwrap(Class<T> p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateArray(int p0, Array p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateArray(String p0, Array p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateAsciiStream(int p0, InputStream p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateAsciiStream(int p0, InputStream p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateAsciiStream(int p0, InputStream p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateAsciiStream(String p0, InputStream p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateAsciiStream(String p0, InputStream p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateAsciiStream(String p0, InputStream p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBigDecimal(int p0, BigDecimal p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBigDecimal(String p0, BigDecimal p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBinaryStream(int p0, InputStream p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBinaryStream(int p0, InputStream p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBinaryStream(int p0, InputStream p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBinaryStream(String p0, InputStream p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBinaryStream(String p0, InputStream p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBinaryStream(String p0, InputStream p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBlob(int p0, InputStream p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBlob(int p0, InputStream p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBlob(int p0, Blob p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBlob(String p0, InputStream p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBlob(String p0, InputStream p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBlob(String p0, Blob p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBoolean(int p0, boolean p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBoolean(String p0, boolean p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateByte(int p0, byte p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateByte(String p0, byte p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBytes(int p0, byte[] p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateBytes(String p0, byte[] p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateCharacterStream(int p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateCharacterStream(int p0, Reader p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateCharacterStream(int p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateCharacterStream(String p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateCharacterStream(String p0, Reader p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateCharacterStream(String p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateClob(int p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateClob(int p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateClob(int p0, Clob p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateClob(String p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateClob(String p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateClob(String p0, Clob p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateDate(int p0, Date p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateDate(String p0, Date p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateDouble(int p0, double p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateDouble(String p0, double p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateFloat(int p0, float p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateFloat(String p0, float p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateInt(int p0, int p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateInt(String p0, int p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateLong(int p0, long p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateLong(String p0, long p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNCharacterStream(int p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNCharacterStream(int p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNCharacterStream(String p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNCharacterStream(String p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNClob(int p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNClob(int p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNClob(int p0, NClob p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNClob(String p0, Reader p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNClob(String p0, Reader p1, long p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNClob(String p0, NClob p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNString(int p0, String p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNString(String p0, String p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNull(int p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateNull(String p0) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateObject(int p0, Object p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateObject(int p0, Object p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateObject(String p0, Object p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateObject(String p0, Object p1, int p2) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateRef(int p0, Ref p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateRef(String p0, Ref p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateRow() {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateRowId(int p0, RowId p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateRowId(String p0, RowId p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateSQLXML(int p0, SQLXML p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateSQLXML(String p0, SQLXML p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateShort(int p0, short p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateShort(String p0, short p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateString(int p0, String p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateString(String p0, String p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateTime(int p0, Time p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateTime(String p0, Time p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateTimestamp(int p0, Timestamp p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public void updateTimestamp(String p0, Timestamp p1) {
+        throw unsupported();
+    }
+
+    @Override
+    public boolean wasNull() {
+        return wasNull;
+    }
+
+    private static UnsupportedOperationException unsupported() {
+        return new UnsupportedOperationException();
+    }
+
+}
@@ -0,0 +1,92 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Destination kinds of the tuple mapping benchmarks, each with 2, 10 and 40 column classes and their hand-written
+ * mappers. Column {@code cNN} holds a {@code String}, {@code Long} or {@code Integer} by {@code NN % 3}.
+ */
+public enum TupleDestination {
+
+    SETTER(new Row<>(SetterRow2.class, SetterRow2::new, SetterRow2::map),
+            new Row<>(SetterRow10.class, SetterRow10::new, SetterRow10::map),
+            new Row<>(SetterRow40.class, SetterRow40::new, SetterRow40::map)),
+    WITHER(new Row<>(WitherRow2.class, WitherRow2::new, WitherRow2::map),
+            new Row<>(WitherRow10.class, WitherRow10::new, WitherRow10::map),
+            new Row<>(WitherRow40.class, WitherRow40::new, WitherRow40::map)),
+    MODIFIER(new Row<>(ModifierRow2.class, ModifierRow2::new, ModifierRow2::map),
+            new Row<>(ModifierRow10.class, ModifierRow10::new, ModifierRow10::map),
+            new Row<>(ModifierRow40.class, ModifierRow40::new, ModifierRow40::map));
+
+    private final Row<?>[] rows;
+
+    TupleDestination(Row<?>... rows) {
+        this.rows = rows;
+    }
+
+    public Row<?> row(int width) {
+        return switch (width) {
+            case 2 -> rows[0];
+            case 10 -> rows[1];
+            case 40 -> rows[2];
+            default -> throw new IllegalArgumentException("Unsupported width: " + width);
+        };
+    }
+
+    /**
+     * Aliases of the columns
+     */
+    public static String[] aliases(int width) {
+        var result = new String[width];
+        for (var i = 0; i < width; i++) {
+            result[i] = String.format("c%02d", i);
+        }
+        return result;
+    }
+
+    /**
+     * Column values of a row, shared between the columns of the same type
+     */
+    public static Object[] values(int width, int row) {
+        var string = "value" + row;
+        var number = (long) row;
+        var integer = row;
+        var result = new Object[width];
+        for (var i = 0; i < width; i++) {
+            result[i] = switch (i % 3) {
+                case 0 -> string;
+                case 1 -> number;
+                default -> integer;
+            };
+        }
+        return result;
+    }
+
+    public record Row<T>(Class<T> type, Supplier<T> creator, Function<Tuple, T> mapper) {
+    }
+
+}
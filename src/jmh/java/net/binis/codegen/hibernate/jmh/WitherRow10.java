@@ -0,0 +1,124 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import lombok.Getter;
+
+/**
+ * Wither destination with 10 columns, modified through {@link #with()}
+ */
+@Getter
+public class WitherRow10 {
+
+    private String c00;
+    private Long c01;
+    private Integer c02;
+    private String c03;
+    private Long c04;
+    private Integer c05;
+    private String c06;
+    private Long c07;
+    private Integer c08;
+    private String c09;
+
+    public Modify with() {
+        return new Modify();
+    }
+
+    /**
+     * Hand-written mapping of a tuple
+     */
+    public static WitherRow10 map(Tuple tuple) {
+        return new WitherRow10().with()
+                .c00((String) tuple.get(0))
+                .c01((Long) tuple.get(1))
+                .c02((Integer) tuple.get(2))
+                .c03((String) tuple.get(3))
+                .c04((Long) tuple.get(4))
+                .c05((Integer) tuple.get(5))
+                .c06((String) tuple.get(6))
+                .c07((Long) tuple.get(7))
+                .c08((Integer) tuple.get(8))
+                .c09((String) tuple.get(9))
+                .done();
+    }
+
+    public class Modify {
+
+        public Modify c00(String c00) {
+            WitherRow10.this.c00 = c00;
+            return this;
+        }
+
+        public Modify c01(Long c01) {
+            WitherRow10.this.c01 = c01;
+            return this;
+        }
+
+        public Modify c02(Integer c02) {
+            WitherRow10.this.c02 = c02;
+            return this;
+        }
+
+        public Modify c03(String c03) {
+            WitherRow10.this.c03 = c03;
+            return this;
+        }
+
+        public Modify c04(Long c04) {
+            WitherRow10.this.c04 = c04;
+            return this;
+        }
+
+        public Modify c05(Integer c05) {
+            WitherRow10.this.c05 = c05;
+            return this;
+        }
+
+        public Modify c06(String c06) {
+            WitherRow10.this.c06 = c06;
+            return this;
+        }
+
+        public Modify c07(Long c07) {
+            WitherRow10.this.c07 = c07;
+            return this;
+        }
+
+        public Modify c08(Integer c08) {
+            WitherRow10.this.c08 = c08;
+            return this;
+        }
+
+        public Modify c09(String c09) {
+            WitherRow10.this.c09 = c09;
+            return this;
+        }
+
+        public WitherRow10 done() {
+            return WitherRow10.this;
+        }
+
+    }
+
+}
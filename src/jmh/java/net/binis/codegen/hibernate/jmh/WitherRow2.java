@@ -0,0 +1,68 @@
+package net.binis.codegen.hibernate.jmh;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import lombok.Getter;
+
+/**
+ * Wither destination with 2 columns, modified through {@link #with()}
+ */
+@Getter
+public class WitherRow2 {
+
+    private String c00;
+    private Long c01;
+
+    public Modify with() {
+        return new Modify();
+    }
+
+    /**
+     * Hand-written mapping of a tuple
+     */
+    public static WitherRow2 map(Tuple tuple) {
+        return new WitherRow2().with()
+                .c00((String) tuple.get(0))
+                .c01((Long) tuple.get(1))
+                .done();
+    }
+
+    public class Modify {
+
+        public Modify c00(String c00) {
+            WitherRow2.this.c00 = c00;
+            return this;
+        }
+
+        public Modify c01(Long c01) {
+            WitherRow2.this.c01 = c01;
+            return this;
+        }
+
+        public WitherRow2 done() {
+            return WitherRow2.this;
+        }
+
+    }
+
+}
@@ -0,0 +1,275 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+
+import java.io.Serializable;
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * {@code Map} keyed by enum values, backed by an array of the map values indexed by the key ordinals.
+ * <p>
+ * Keys are resolved back from their ordinals through the shared {@link CodeEnumCodec} of the enum type, so no entry
+ * objects are kept. Keys that can't be addressed by ordinal (unknown values, negative or very big ordinals) are kept
+ * aside in a regular map. Iteration is in key ordinal order.
+ */
+@SuppressWarnings("unchecked")
+public class CodeEnumArrayMap<K extends CodeEnum, V> extends AbstractMap<K, V> implements Serializable {
+
+    private static final Object[] EMPTY = new Object[0];
+    private static final Object NULL = new NullValue();
+
+    private final CodeEnumCodec<K> codec;
+
+    private Object[] values = EMPTY;
+    private int size;
+    private Map<K, V> others;
+
+    private transient Set<Entry<K, V>> entrySet;
+
+    public CodeEnumArrayMap(CodeEnumCodec<K> codec) {
+        this.codec = codec;
+    }
+
+    public CodeEnumArrayMap(CodeEnumCodec<K> codec, Map<? extends K, ? extends V> map) {
+        this(codec);
+        putAll(map);
+    }
+
+    public CodeEnumCodec<K> getCodec() {
+        return codec;
+    }
+
+    @Override
+    public int size() {
+        return size + (isNull(others) ? 0 : others.size());
+    }
+
+    @Override
+    public boolean containsKey(Object key) {
+        if (key instanceof CodeEnum value) {
+            var ordinal = value.ordinal();
+            if (isSet(ordinal)) {
+                return codec.fromOrdinal(ordinal) == value;
+            }
+            return nonNull(others) && others.containsKey(value);
+        }
+        return false;
+    }
+
+    @Override
+    public V get(Object key) {
+        if (key instanceof CodeEnum value) {
+            var ordinal = value.ordinal();
+            if (isSet(ordinal)) {
+                return codec.fromOrdinal(ordinal) == value ? unmask(values[ordinal]) : null;
+            }
+            return isNull(others) ? null : others.get(value);
+        }
+        return null;
+    }
+
+    @Override
+    public V put(K key, V value) {
+        var ordinal = key.ordinal();
+        if (isDense(key)) {
+            if (ordinal >= values.length) {
+                values = Arrays.copyOf(values, ordinal + 1);
+            }
+            var old = values[ordinal];
+            values[ordinal] = isNull(value) ? NULL : value;
+            if (isNull(old)) {
+                size++;
+            }
+            return unmask(old);
+        }
+        if (isNull(others)) {
+            others = new HashMap<>(4);
+        }
+        return others.put(key, value);
+    }
+
+    @Override
+    public V remove(Object key) {
+        if (key instanceof CodeEnum value) {
+            var ordinal = value.ordinal();
+            if (isSet(ordinal) && codec.fromOrdinal(ordinal) == value) {
+                var old = values[ordinal];
+                values[ordinal] = null;
+                size--;
+                return unmask(old);
+            }
+            return isNull(others) ? null : others.remove(value);
+        }
+        return null;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(values, null);
+        size = 0;
+        others = null;
+    }
+
+    @Override
+    public Set<Entry<K, V>> entrySet() {
+        if (isNull(entrySet)) {
+            entrySet = new AbstractSet<>() {
+                @Override
+                public Iterator<Entry<K, V>> iterator() {
+                    return new EntryIterator();
+                }
+
+                @Override
+                public int size() {
+                    return CodeEnumArrayMap.this.size();
+                }
+
+                @Override
+                public void clear() {
+                    CodeEnumArrayMap.this.clear();
+                }
+            };
+        }
+        return entrySet;
+    }
+
+    private boolean isDense(K key) {
+        var ordinal = key.ordinal();
+        return ordinal >= 0 && ordinal < CodeEnumCodec.MAX_DENSE_ORDINAL && !key.unknown() && codec.fromOrdinal(ordinal) == key;
+    }
+
+    private boolean isSet(int ordinal) {
+        return ordinal >= 0 && ordinal < values.length && nonNull(values[ordinal]);
+    }
+
+    private int nextOrdinal(int from) {
+        for (var i = from; i < values.length; i++) {
+            if (nonNull(values[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    private static <V> V unmask(Object value) {
+        return value == NULL ? null : (V) value;
+    }
+
+    private class EntryIterator implements Iterator<Entry<K, V>> {
+
+        private int next = nextOrdinal(0);
+        private int last = -1;
+        private Iterator<Entry<K, V>> rest;
+
+        @Override
+        public boolean hasNext() {
+            return next >= 0 || others().hasNext();
+        }
+
+        @Override
+        public Entry<K, V> next() {
+            if (next >= 0) {
+                last = next;
+                next = nextOrdinal(next + 1);
+                return new ArrayEntry(last);
+            }
+            last = -1;
+            return others().next();
+        }
+
+        @Override
+        public void remove() {
+            if (last >= 0) {
+                values[last] = null;
+                size--;
+                last = -1;
+            } else if (nonNull(rest)) {
+                rest.remove();
+            } else {
+                throw new IllegalStateException();
+            }
+        }
+
+        private Iterator<Entry<K, V>> others() {
+            if (isNull(rest)) {
+                rest = isNull(others) ? Collections.emptyIterator() : others.entrySet().iterator();
+            }
+            return rest;
+        }
+
+    }
+
+    private class ArrayEntry implements Entry<K, V> {
+
+        private final int ordinal;
+
+        private ArrayEntry(int ordinal) {
+            this.ordinal = ordinal;
+        }
+
+        @Override
+        public K getKey() {
+            return codec.fromOrdinal(ordinal);
+        }
+
+        @Override
+        public V getValue() {
+            return unmask(values[ordinal]);
+        }
+
+        @Override
+        public V setValue(V value) {
+            var old = values[ordinal];
+            values[ordinal] = isNull(value) ? NULL : value;
+            return unmask(old);
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Entry<?, ?> e && Objects.equals(getKey(), e.getKey()) && Objects.equals(getValue(), e.getValue());
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hashCode(getKey()) ^ Objects.hashCode(getValue());
+        }
+
+        @Override
+        public String toString() {
+            return getKey() + "=" + getValue();
+        }
+
+    }
+
+    private static class NullValue implements Serializable {
+
+        private Object readResolve() {
+            return NULL;
+        }
+
+    }
+
+}
@@ -0,0 +1,146 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.collection.spi.PersistentMap;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.metamodel.CollectionClassification;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.MapType;
+import org.hibernate.usertype.ParameterizedType;
+import org.hibernate.usertype.UserCollectionType;
+
+import java.io.Serializable;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Collection type for {@code Map<CodeEnum, V>} attributes (keys mapped with {@code @MapKeyEnumerated} or
+ * {@link CodeEnumType}), keeping the loaded entries in a {@link CodeEnumArrayMap}.
+ * <p>
+ * Usage: {@code @CollectionType(type = CodeEnumArrayMapType.class, parameters = @Parameter(name = "enumClass", value = "..."))}.
+ * The dirty checking snapshot is kept as a {@link CodeEnumArrayMap} instead of a {@code HashMap}.
+ */
+@SuppressWarnings("unchecked")
+public class CodeEnumArrayMapType implements UserCollectionType, ParameterizedType, Serializable {
+
+    public static final String ENUM = CodeEnumType.ENUM;
+
+    private CodeEnumCodec<CodeEnum> codec;
+
+    public CodeEnumArrayMapType() {
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        codec = CodeEnumBitSetType.codec(parameters, CodeEnumArrayMapType.class);
+    }
+
+    public CodeEnumCodec<CodeEnum> getCodec() {
+        if (isNull(codec)) {
+            throw new HibernateException("Unable to resolve enum class for " + CodeEnumArrayMapType.class.getSimpleName() + "!");
+        }
+        return codec;
+    }
+
+    @Override
+    public CollectionClassification getClassification() {
+        return CollectionClassification.MAP;
+    }
+
+    @Override
+    public Class<?> getCollectionClass() {
+        return Map.class;
+    }
+
+    @Override
+    public PersistentCollection<?> instantiate(SharedSessionContractImplementor session, CollectionPersister persister) throws HibernateException {
+        return new PersistentArrayMap(session);
+    }
+
+    @Override
+    public PersistentCollection<?> wrap(SharedSessionContractImplementor session, Object collection) {
+        return new PersistentArrayMap(session, collection instanceof CodeEnumArrayMap<?, ?> map ? (CodeEnumArrayMap<CodeEnum, Object>) map : new CodeEnumArrayMap<>(getCodec(), (Map<CodeEnum, Object>) collection));
+    }
+
+    @Override
+    public Iterator<?> getElementsIterator(Object collection) {
+        return ((Map<?, ?>) collection).values().iterator();
+    }
+
+    @Override
+    public boolean contains(Object collection, Object entity) {
+        return ((Map<?, ?>) collection).containsValue(entity);
+    }
+
+    @Override
+    public Object indexOf(Object collection, Object entity) {
+        for (var entry : ((Map<?, ?>) collection).entrySet()) {
+            if (entry.getValue() == entity) {
+                return entry.getKey();
+            }
+        }
+        return null;
+    }
+
+    @Override
+    public Object replaceElements(Object original, Object target, CollectionPersister persister, Object owner, Map copyCache, SharedSessionContractImplementor session) throws HibernateException {
+        //Replaced the way Hibernate replaces maps, with the key and element types of the collection
+        return new MapType(persister.getRole(), null).replaceElements(original, target, owner, copyCache, session);
+    }
+
+    @Override
+    public Object instantiate(int anticipatedSize) {
+        return new CodeEnumArrayMap<>(getCodec());
+    }
+
+    protected static class PersistentArrayMap extends PersistentMap<CodeEnum, Object> {
+
+        public PersistentArrayMap() {
+            super();
+        }
+
+        public PersistentArrayMap(SharedSessionContractImplementor session) {
+            super(session);
+        }
+
+        public PersistentArrayMap(SharedSessionContractImplementor session, CodeEnumArrayMap<CodeEnum, Object> map) {
+            super(session, map);
+        }
+
+        @Override
+        public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+            if (!(map instanceof CodeEnumArrayMap<CodeEnum, Object> arrayMap)) {
+                return super.getSnapshot(persister);
+            }
+            //Values are copied with the element type of the collection, then kept in an array map
+            return new CodeEnumArrayMap<>(arrayMap.getCodec(), (Map<CodeEnum, Object>) super.getSnapshot(persister));
+        }
+
+    }
+
+}
@@ -0,0 +1,233 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+import org.hibernate.usertype.DynamicParameterizedType;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.*;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.type.SqlTypes.ARRAY;
+
+/**
+ * Stores a {@code List} (or {@code Set}) of enum values into a single native SQL array column, as {@code smallint[]}
+ * of the value ordinals or, with {@code useNamed = true}, as {@code varchar[]} of the value names.
+ * <p>
+ * Array DDL is dialect specific, so the column should be declared explicitly,
+ * e.g. {@code @Column(columnDefinition = "smallint[]")} on PostgreSQL or {@code "smallint array"} on H2.
+ * Membership checks can be done with the {@code enum_array_contains} and (PostgreSQL only) {@code enum_array_contains_one}
+ * functions registered by {@link CodeEnumFunctionContributor}. On PostgreSQL both render as array operators
+ * ({@code @>} and {@code &&}), so they can use a GIN index ({@code create index ... using gin (column)}).
+ * The element has to be bound with the stored type (e.g. {@code setParameter("value", (short) 2, Short.class)}),
+ * since PostgreSQL doesn't compare {@code smallint[]} with {@code integer[]}.
+ * <p>
+ * Ordinals outside the {@code smallint} range can't be stored and are rejected.
+ */
+@Slf4j
+@SuppressWarnings("unchecked")
+public class CodeEnumArrayType implements UserType<Collection<CodeEnum>>, DynamicParameterizedType, Serializable {
+
+    public static final String ENUM = CodeEnumType.ENUM;
+    public static final String NAMED = CodeEnumType.NAMED;
+    public static final String ELEMENT_TYPE = "elementType";
+
+    private Class enumClass;
+    private Class collectionClass = List.class;
+    private boolean named;
+    private String elementTypeName;
+
+    private CodeEnumCodec<CodeEnum> codec;
+
+    public CodeEnumArrayType() {
+    }
+
+    public Class getEnumClass() {
+        return enumClass;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        final DynamicParameterizedType.ParameterType reader = (DynamicParameterizedType.ParameterType) parameters.get(PARAMETER_TYPE);
+
+        if (nonNull(reader)) {
+            if (Set.class.isAssignableFrom(reader.getReturnedClass())) {
+                collectionClass = Set.class;
+            }
+            if (reader.getReturnedJavaType() instanceof ParameterizedType type && type.getActualTypeArguments()[0] instanceof Class<?> cls) {
+                enumClass = cls;
+            }
+        }
+
+        if (parameters.containsKey(ENUM)) {
+            final String enumClassName = (String) parameters.get(ENUM);
+            try {
+                enumClass = ReflectHelper.classForName(enumClassName, this.getClass()).asSubclass(CodeEnum.class);
+            } catch (ClassNotFoundException exception) {
+                throw new HibernateException("Enum class not found: " + enumClassName, exception);
+            }
+        }
+
+        if (isNull(enumClass) || !CodeEnum.class.isAssignableFrom(enumClass)) {
+            throw new HibernateException("Unable to resolve enum class for " + CodeEnumArrayType.class.getSimpleName() + "!");
+        }
+
+        named = getBoolean(NAMED, parameters);
+        elementTypeName = parameters.containsKey(ELEMENT_TYPE) ? (String) parameters.get(ELEMENT_TYPE) : named ? "varchar" : "smallint";
+        codec = new CodeEnumCodec<>(new CodeEnumJavaType<>(enumClass), named ? VarcharJdbcType.INSTANCE : SmallIntJdbcType.INSTANCE);
+
+        if (log.isDebugEnabled()) {
+            log.debug("Using {} array for Enum {}", elementTypeName, enumClass.getName());
+        }
+    }
+
+    @Override
+    public int getSqlType() {
+        return ARRAY;
+    }
+
+    @Override
+    public Class<Collection<CodeEnum>> returnedClass() {
+        return collectionClass;
+    }
+
+    @Override
+    public Collection<CodeEnum> nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        var array = rs.getArray(position);
+        if (isNull(array)) {
+            return null;
+        }
+        try {
+            return fromElements((Object[]) array.getArray());
+        } finally {
+            array.free();
+        }
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, Collection<CodeEnum> value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (isNull(value)) {
+            st.setNull(index, ARRAY);
+        } else {
+            st.setArray(index, st.getConnection().createArrayOf(elementTypeName, toElements(value)));
+        }
+    }
+
+    /**
+     * Convert a collection of enum values to the array elements (ordinals or names)
+     */
+    public Object[] toElements(Collection<? extends CodeEnum> values) {
+        var i = 0;
+        if (named) {
+            var result = new String[values.size()];
+            for (var value : values) {
+                result[i++] = isNull(value) ? null : value.name();
+            }
+            return result;
+        }
+        var result = new Short[values.size()];
+        for (var value : values) {
+            result[i++] = isNull(value) ? null : toShort(value);
+        }
+        return result;
+    }
+
+    protected static Short toShort(CodeEnum value) {
+        var ordinal = value.ordinal();
+        if (ordinal < Short.MIN_VALUE || ordinal > Short.MAX_VALUE) {
+            throw new HibernateException("Ordinal " + ordinal + " of " + value.getClass().getName() + "." + value.name() + " doesn't fit in a smallint array!");
+        }
+        return (short) ordinal;
+    }
+
+    protected Collection<CodeEnum> fromElements(Object[] elements) {
+        var result = newCollection(elements.length);
+        for (var element : elements) {
+            if (isNull(element)) {
+                result.add(null);
+            } else if (element instanceof Number number) {
+                result.add(codec.fromOrdinal(number.intValue()));
+            } else {
+                result.add(codec.fromName(element.toString()));
+            }
+        }
+        return result;
+    }
+
+    protected Collection<CodeEnum> newCollection(int size) {
+        return Set.class.equals(collectionClass) ? new LinkedHashSet<>(size * 2) : new ArrayList<>(size);
+    }
+
+    @Override
+    public boolean equals(Collection<CodeEnum> x, Collection<CodeEnum> y) {
+        return Objects.equals(x, y);
+    }
+
+    @Override
+    public int hashCode(Collection<CodeEnum> x) {
+        return Objects.hashCode(x);
+    }
+
+    @Override
+    public Collection<CodeEnum> deepCopy(Collection<CodeEnum> value) {
+        if (isNull(value)) {
+            return null;
+        }
+        var result = newCollection(value.size());
+        result.addAll(value);
+        return result;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return true;
+    }
+
+    @Override
+    public Serializable disassemble(Collection<CodeEnum> value) {
+        return isNull(value) ? null : toElements(value);
+    }
+
+    @Override
+    public Collection<CodeEnum> assemble(Serializable cached, Object owner) {
+        return isNull(cached) ? null : fromElements((Object[]) cached);
+    }
+
+    @Override
+    public Collection<CodeEnum> replace(Collection<CodeEnum> original, Collection<CodeEnum> target, Object owner) {
+        return deepCopy(original);
+    }
+
+}
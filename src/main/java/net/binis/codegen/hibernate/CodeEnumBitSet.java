@@ -0,0 +1,199 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+
+import java.io.Serializable;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * {@code Set} of enum values backed by a bitset of the value ordinals.
+ * <p>
+ * Values are resolved back from their ordinals through the shared {@link CodeEnumCodec} of the enum type, so a set
+ * of a small enum type takes a single {@code long}. Values that can't be addressed by ordinal (unknown values,
+ * negative or very big ordinals) are kept aside in a regular set. Iteration is in ordinal order.
+ */
+@SuppressWarnings("unchecked")
+public class CodeEnumBitSet<T extends CodeEnum> extends AbstractSet<T> implements Serializable {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final CodeEnumCodec<T> codec;
+
+    private long[] words = EMPTY;
+    private int size;
+    private Set<T> others;
+
+    public CodeEnumBitSet(CodeEnumCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    public CodeEnumBitSet(CodeEnumCodec<T> codec, Collection<? extends T> values) {
+        this(codec);
+        addAll(values);
+    }
+
+    public CodeEnumCodec<T> getCodec() {
+        return codec;
+    }
+
+    @Override
+    public int size() {
+        return size + (isNull(others) ? 0 : others.size());
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        if (o instanceof CodeEnum value) {
+            var ordinal = value.ordinal();
+            if (isSet(ordinal)) {
+                return codec.fromOrdinal(ordinal) == value;
+            }
+            return nonNull(others) && others.contains(value);
+        }
+        return false;
+    }
+
+    @Override
+    public boolean add(T value) {
+        var ordinal = value.ordinal();
+        if (isDense(value)) {
+            var word = ordinal >>> 6;
+            if (word >= words.length) {
+                words = Arrays.copyOf(words, word + 1);
+            }
+            var bit = 1L << ordinal;
+            if ((words[word] & bit) != 0) {
+                return false;
+            }
+            words[word] |= bit;
+            size++;
+            return true;
+        }
+        if (isNull(others)) {
+            others = new HashSet<>(4);
+        }
+        return others.add(value);
+    }
+
+    @Override
+    public boolean remove(Object o) {
+        if (o instanceof CodeEnum value) {
+            var ordinal = value.ordinal();
+            if (isSet(ordinal) && codec.fromOrdinal(ordinal) == value) {
+                words[ordinal >>> 6] &= ~(1L << ordinal);
+                size--;
+                return true;
+            }
+            return nonNull(others) && others.remove(value);
+        }
+        return false;
+    }
+
+    @Override
+    public void clear() {
+        Arrays.fill(words, 0L);
+        size = 0;
+        others = null;
+    }
+
+    @Override
+    public Iterator<T> iterator() {
+        return new Iterator<>() {
+            private int next = nextOrdinal(0);
+            private int last = -1;
+            private Iterator<T> rest;
+
+            @Override
+            public boolean hasNext() {
+                return next >= 0 || others().hasNext();
+            }
+
+            @Override
+            public T next() {
+                if (next >= 0) {
+                    last = next;
+                    next = nextOrdinal(next + 1);
+                    return codec.fromOrdinal(last);
+                }
+                last = -1;
+                return others().next();
+            }
+
+            @Override
+            public void remove() {
+                if (last >= 0) {
+                    words[last >>> 6] &= ~(1L << last);
+                    size--;
+                    last = -1;
+                } else if (nonNull(rest)) {
+                    rest.remove();
+                } else {
+                    throw new IllegalStateException();
+                }
+            }
+
+            private Iterator<T> others() {
+                if (isNull(rest)) {
+                    rest = isNull(others) ? Collections.emptyIterator() : others.iterator();
+                }
+                return rest;
+            }
+        };
+    }
+
+    private boolean isDense(T value) {
+        var ordinal = value.ordinal();
+        return ordinal >= 0 && ordinal < CodeEnumCodec.MAX_DENSE_ORDINAL && !value.unknown() && codec.fromOrdinal(ordinal) == value;
+    }
+
+    private boolean isSet(int ordinal) {
+        return ordinal >= 0 && (ordinal >>> 6) < words.length && (words[ordinal >>> 6] & (1L << ordinal)) != 0;
+    }
+
+    private int nextOrdinal(int from) {
+        var word = from >>> 6;
+        if (word >= words.length) {
+            return -1;
+        }
+        var bits = words[word] & (-1L << from);
+        while (true) {
+            if (bits != 0) {
+                return (word << 6) + Long.numberOfTrailingZeros(bits);
+            }
+            if (++word == words.length) {
+                return -1;
+            }
+            bits = words[word];
+        }
+    }
+
+}
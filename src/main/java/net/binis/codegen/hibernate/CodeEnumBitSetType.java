@@ -0,0 +1,162 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.HibernateException;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.hibernate.collection.spi.PersistentSet;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.metamodel.CollectionClassification;
+import org.hibernate.persister.collection.CollectionPersister;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+import org.hibernate.usertype.ParameterizedType;
+import org.hibernate.usertype.UserCollectionType;
+
+import java.io.Serializable;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Properties;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Collection type for {@code Set<CodeEnum>} element collections, keeping the loaded elements in a {@link CodeEnumBitSet}.
+ * <p>
+ * Usage: {@code @CollectionType(type = CodeEnumBitSetType.class, parameters = @Parameter(name = "enumClass", value = "..."))}.
+ * The dirty checking snapshot is kept as a {@link CodeEnumArrayMap} instead of a {@code HashMap}.
+ */
+@SuppressWarnings("unchecked")
+public class CodeEnumBitSetType implements UserCollectionType, ParameterizedType, Serializable {
+
+    public static final String ENUM = CodeEnumType.ENUM;
+
+    private CodeEnumCodec<CodeEnum> codec;
+
+    public CodeEnumBitSetType() {
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        codec = codec(parameters, CodeEnumBitSetType.class);
+    }
+
+    public CodeEnumCodec<CodeEnum> getCodec() {
+        if (isNull(codec)) {
+            throw new HibernateException("Unable to resolve enum class for " + CodeEnumBitSetType.class.getSimpleName() + "!");
+        }
+        return codec;
+    }
+
+    @Override
+    public CollectionClassification getClassification() {
+        return CollectionClassification.SET;
+    }
+
+    @Override
+    public Class<?> getCollectionClass() {
+        return Set.class;
+    }
+
+    @Override
+    public PersistentCollection<?> instantiate(SharedSessionContractImplementor session, CollectionPersister persister) throws HibernateException {
+        return new PersistentBitSet(session);
+    }
+
+    @Override
+    public PersistentCollection<?> wrap(SharedSessionContractImplementor session, Object collection) {
+        return new PersistentBitSet(session, collection instanceof CodeEnumBitSet<?> set ? (CodeEnumBitSet<CodeEnum>) set : new CodeEnumBitSet<>(getCodec(), (Collection<CodeEnum>) collection));
+    }
+
+    @Override
+    public Iterator<?> getElementsIterator(Object collection) {
+        return ((Collection<?>) collection).iterator();
+    }
+
+    @Override
+    public boolean contains(Object collection, Object entity) {
+        return ((Collection<?>) collection).contains(entity);
+    }
+
+    @Override
+    public Object indexOf(Object collection, Object entity) {
+        return null;
+    }
+
+    @Override
+    public Object replaceElements(Object original, Object target, CollectionPersister persister, Object owner, Map copyCache, SharedSessionContractImplementor session) throws HibernateException {
+        var result = (Collection<Object>) target;
+        result.clear();
+        result.addAll((Collection<?>) original);
+        return result;
+    }
+
+    @Override
+    public Object instantiate(int anticipatedSize) {
+        return new CodeEnumBitSet<>(getCodec());
+    }
+
+    protected static CodeEnumCodec<CodeEnum> codec(Properties parameters, Class<?> type) {
+        var enumClassName = parameters.getProperty(ENUM);
+        if (isNull(enumClassName)) {
+            throw new HibernateException("Missing '" + ENUM + "' parameter for " + type.getSimpleName() + "!");
+        }
+        try {
+            var enumClass = ReflectHelper.classForName(enumClassName, type).asSubclass(CodeEnum.class);
+            return new CodeEnumCodec<>(new CodeEnumJavaType<>((Class) enumClass), SmallIntJdbcType.INSTANCE);
+        } catch (ClassNotFoundException exception) {
+            throw new HibernateException("Enum class not found: " + enumClassName, exception);
+        }
+    }
+
+    protected static class PersistentBitSet extends PersistentSet<CodeEnum> {
+
+        public PersistentBitSet() {
+            super();
+        }
+
+        public PersistentBitSet(SharedSessionContractImplementor session) {
+            super(session);
+        }
+
+        public PersistentBitSet(SharedSessionContractImplementor session, CodeEnumBitSet<CodeEnum> set) {
+            super(session, set);
+        }
+
+        @Override
+        public Serializable getSnapshot(CollectionPersister persister) throws HibernateException {
+            if (!(set instanceof CodeEnumBitSet<CodeEnum> bitSet)) {
+                return super.getSnapshot(persister);
+            }
+            var result = new CodeEnumArrayMap<CodeEnum, CodeEnum>(bitSet.getCodec());
+            for (var value : bitSet) {
+                //Enum values are immutable, no need of deep copy
+                result.put(value, value);
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,410 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.type.descriptor.ValueBinder;
+import org.hibernate.type.descriptor.ValueExtractor;
+import org.hibernate.type.descriptor.jdbc.JdbcType;
+
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serializable;
+import java.lang.reflect.Array;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.TreeMap;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.hibernate.type.SqlTypes.BIGINT;
+import static org.hibernate.type.SqlTypes.CHAR;
+import static org.hibernate.type.SqlTypes.INTEGER;
+import static org.hibernate.type.SqlTypes.LONG32NVARCHAR;
+import static org.hibernate.type.SqlTypes.LONG32VARCHAR;
+import static org.hibernate.type.SqlTypes.NCHAR;
+import static org.hibernate.type.SqlTypes.NVARCHAR;
+import static org.hibernate.type.SqlTypes.SMALLINT;
+import static org.hibernate.type.SqlTypes.TINYINT;
+import static org.hibernate.type.SqlTypes.VARCHAR;
+
+/**
+ * Pre-resolved read/write path for a single {@link CodeEnumType} column.
+ * <p>
+ * Plain integral and character columns are read and bound through the primitive
+ * JDBC accessors and decoded through lookup tables built once per column, so known
+ * values don't allocate. Ordinals outside {@code 0..MAX_DENSE_ORDINAL} are looked up
+ * in a sorted side table. The tables are rebuilt only when the number of registered
+ * values changes. Any other JDBC type (native enums, etc.) goes through the
+ * Hibernate extractor and binder, resolved once instead of per row.
+ */
+@SuppressWarnings("unchecked")
+public class CodeEnumCodec<T extends CodeEnum> implements Serializable {
+
+    protected static final int MAX_DENSE_ORDINAL = 4096;
+
+    private final CodeEnumJavaType<T> enumJavaType;
+    private final JdbcType jdbcType;
+    private final int sqlType;
+    private final boolean useCodes;
+    private final boolean direct;
+
+    private transient CodeEnumCodes<T> codes;
+
+    private transient ValueExtractor<T> extractor;
+    private transient ValueBinder<T> binder;
+    private transient volatile Tables<T> tables;
+    private transient volatile int rebuilds;
+    private transient CodeHibernateMonitoring.Resolved<CodeHibernateMetrics.EnumMetrics> metrics;
+
+    public CodeEnumCodec(CodeEnumJavaType<T> enumJavaType, JdbcType jdbcType) {
+        this(enumJavaType, jdbcType, null);
+    }
+
+    public CodeEnumCodec(CodeEnumJavaType<T> enumJavaType, JdbcType jdbcType, CodeEnumCodes<T> codes) {
+        this.enumJavaType = enumJavaType;
+        this.jdbcType = jdbcType;
+        this.sqlType = jdbcType.getJdbcTypeCode();
+        this.direct = isDirect(sqlType);
+        this.useCodes = nonNull(codes);
+        this.codes = codes;
+        init();
+    }
+
+    private void init() {
+        extractor = jdbcType.getExtractor(enumJavaType);
+        binder = jdbcType.getBinder(enumJavaType);
+        tables = buildTables();
+        var type = enumJavaType.getJavaTypeClass();
+        metrics = new CodeHibernateMonitoring.Resolved<>(m -> m.enumMetrics(type));
+    }
+
+    private void readObject(ObjectInputStream stream) throws ClassNotFoundException, IOException {
+        stream.defaultReadObject();
+        if (useCodes) {
+            codes = CodeEnumCodes.of(enumJavaType.getJavaTypeClass());
+            if (isNull(codes)) {
+                throw new InvalidObjectException("No codes registered for Enum " + enumJavaType.getJavaTypeClass().getName() + "!");
+            }
+        }
+        init();
+    }
+
+    public CodeEnumJavaType<T> getEnumJavaType() {
+        return enumJavaType;
+    }
+
+    public JdbcType getJdbcType() {
+        return jdbcType;
+    }
+
+    public CodeEnumCodes<T> getCodes() {
+        return codes;
+    }
+
+    public boolean isOrdinal() {
+        return jdbcType.isInteger();
+    }
+
+    public T read(ResultSet rs, int position, SharedSessionContractImplementor session) throws SQLException {
+        switch (sqlType) {
+            case TINYINT, SMALLINT -> {
+                var value = rs.getShort(position);
+                return rs.wasNull() ? null : read(fromInt(value));
+            }
+            case INTEGER -> {
+                var value = rs.getInt(position);
+                return rs.wasNull() ? null : read(fromInt(value));
+            }
+            case BIGINT -> {
+                var value = rs.getLong(position);
+                return rs.wasNull() ? null : read(fromInt(narrow(value)));
+            }
+            case CHAR, VARCHAR, LONG32VARCHAR -> {
+                return read(fromString(rs.getString(position)));
+            }
+            case NCHAR, NVARCHAR, LONG32NVARCHAR -> {
+                return read(fromString(rs.getNString(position)));
+            }
+            default -> {
+                //Converted and counted by the java type
+                return extractor.extract(rs, position, session);
+            }
+        }
+    }
+
+    /**
+     * JDBC types read and written by the codec itself, the rest go through the Hibernate extractor and binder
+     */
+    private static boolean isDirect(int sqlType) {
+        return switch (sqlType) {
+            case TINYINT, SMALLINT, INTEGER, BIGINT, CHAR, VARCHAR, LONG32VARCHAR, NCHAR, NVARCHAR, LONG32NVARCHAR -> true;
+            default -> false;
+        };
+    }
+
+    private T read(T value) {
+        if (nonNull(value)) {
+            var m = metrics.get();
+            if (nonNull(m)) {
+                m.converted();
+                if (value.unknown()) {
+                    m.unknown();
+                }
+            }
+        }
+        return value;
+    }
+
+    private void written(T value) {
+        if (nonNull(value)) {
+            var m = metrics.get();
+            if (nonNull(m)) {
+                m.converted();
+            }
+        }
+    }
+
+    public void write(PreparedStatement st, T value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (direct) {
+            written(value);
+        }
+        switch (sqlType) {
+            case TINYINT, SMALLINT -> {
+                if (isNull(value)) {
+                    st.setNull(index, sqlType);
+                } else {
+                    st.setShort(index, toShort(value));
+                }
+            }
+            case INTEGER -> {
+                if (isNull(value)) {
+                    st.setNull(index, sqlType);
+                } else {
+                    st.setInt(index, toInt(value));
+                }
+            }
+            case BIGINT -> {
+                if (isNull(value)) {
+                    st.setNull(index, sqlType);
+                } else {
+                    st.setLong(index, toInt(value));
+                }
+            }
+            case CHAR, VARCHAR, LONG32VARCHAR -> {
+                if (isNull(value)) {
+                    st.setNull(index, sqlType);
+                } else {
+                    st.setString(index, toString(value));
+                }
+            }
+            case NCHAR, NVARCHAR, LONG32NVARCHAR -> {
+                if (isNull(value)) {
+                    st.setNull(index, sqlType);
+                } else {
+                    st.setNString(index, toString(value));
+                }
+            }
+            default -> binder.bind(st, value, index, session);
+        }
+    }
+
+    private T fromInt(int value) {
+        return isNull(codes) ? fromOrdinal(value) : codes.fromCode(value);
+    }
+
+    private T fromString(String value) {
+        return isNull(codes) ? fromName(value) : codes.fromCode(value);
+    }
+
+    private int toInt(T value) {
+        checkWritable(value);
+        return isNull(codes) ? value.ordinal() : codes.toIntCode(value);
+    }
+
+    private short toShort(T value) {
+        var code = toInt(value);
+        if (code < Short.MIN_VALUE || code > Short.MAX_VALUE) {
+            throw new HibernateException((isNull(codes) ? "Ordinal " : "Code ") + code + " of " + enumJavaType.getJavaTypeClass().getName() + "." + value.name() + " doesn't fit in a " + (sqlType == TINYINT ? "tinyint" : "smallint") + " column!");
+        }
+        return (short) code;
+    }
+
+    private int narrow(long value) {
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw new HibernateException("Value " + value + " is out of the " + (isNull(codes) ? "ordinal" : "code") + " range of " + enumJavaType.getJavaTypeClass().getName() + "!");
+        }
+        return (int) value;
+    }
+
+    private String toString(T value) {
+        checkWritable(value);
+        return isNull(codes) ? value.name() : codes.toStringCode(value);
+    }
+
+    private void checkWritable(T value) {
+        if (CodeEnumUnknownValues.isOverflow(value)) {
+            throw new HibernateException("Unknown value of " + enumJavaType.getJavaTypeClass().getName() + " past the unknown values limit can't be written!");
+        }
+    }
+
+    /**
+     * Interpret a numeric value as the ordinal of the enum type
+     */
+    public T fromOrdinal(int ordinal) {
+        var t = tables;
+        if (ordinal >= 0 && ordinal < t.ordinals.length) {
+            var result = t.ordinals[ordinal];
+            if (nonNull(result)) {
+                return result;
+            }
+        } else if (t.sparseOrdinals.length > 0) {
+            var index = Arrays.binarySearch(t.sparseOrdinals, ordinal);
+            if (index >= 0) {
+                return t.sparseValues[index];
+            }
+        }
+        return refresh(enumJavaType.lookupOrdinal(ordinal));
+    }
+
+    /**
+     * Interpret a string value as the named value of the enum type
+     */
+    public T fromName(String name) {
+        if (isNull(name)) {
+            return null;
+        }
+        var result = tables.names.get(name);
+        return nonNull(result) ? result : refresh(enumJavaType.lookupName(name));
+    }
+
+    /**
+     * Convert a value of the enum type to its cacheable form (the ordinal or the name)
+     */
+    public Serializable disassemble(T value) {
+        if (isNull(value)) {
+            return null;
+        }
+        if (isOrdinal()) {
+            var ordinal = value.ordinal();
+            if (ordinal >= Short.MIN_VALUE && ordinal <= Short.MAX_VALUE) {
+                return (short) ordinal;
+            }
+            return ordinal;
+        }
+        return value.name();
+    }
+
+    /**
+     * Interpret a cached value as the canonical value of the enum type
+     */
+    public T assemble(Serializable cached) {
+        if (isNull(cached)) {
+            return null;
+        } else if (cached instanceof Number number) {
+            return fromOrdinal(number.intValue());
+        } else if (cached instanceof String name) {
+            return fromName(name);
+        } else if (cached instanceof CodeEnum value) {
+            return isOrdinal() ? fromOrdinal(value.ordinal()) : fromName(value.name());
+        }
+        throw new HibernateException("Unable to assemble " + enumJavaType.getJavaTypeClass().getName() + " from " + cached.getClass().getName());
+    }
+
+    public String toSqlLiteral(T value) {
+        var ordinal = value.ordinal();
+        var t = tables;
+        if (ordinal >= 0 && ordinal < t.ordinals.length && t.ordinals[ordinal] == value) {
+            return t.literals[ordinal];
+        }
+        return literal(value);
+    }
+
+    private String literal(T value) {
+        return isOrdinal()
+                ? Integer.toString(toInt(value))
+                : "'" + toString(value) + "'";
+    }
+
+    /**
+     * Number of times the lookup tables were rebuilt for values registered after the codec was created
+     */
+    public int getRebuilds() {
+        return rebuilds;
+    }
+
+    private T refresh(T value) {
+        if (nonNull(value) && !value.unknown() && enumJavaType.values().length != tables.count) {
+            //Value registered after the tables were built
+            tables = buildTables();
+            rebuilds++;
+        }
+        return value;
+    }
+
+    private Tables<T> buildTables() {
+        var type = enumJavaType.getJavaTypeClass();
+        var values = enumJavaType.values();
+        var max = -1;
+        for (var value : values) {
+            if (!value.unknown() && value.ordinal() > max && value.ordinal() < MAX_DENSE_ORDINAL) {
+                max = value.ordinal();
+            }
+        }
+
+        var ordinals = (T[]) Array.newInstance(type, max + 1);
+        var literals = new String[max + 1];
+        var names = new HashMap<String, T>(values.length * 2);
+        var sparse = new TreeMap<Integer, T>();
+        for (var value : values) {
+            if (!value.unknown()) {
+                if (value.ordinal() >= 0 && value.ordinal() <= max) {
+                    ordinals[value.ordinal()] = value;
+                    literals[value.ordinal()] = literal(value);
+                } else {
+                    sparse.putIfAbsent(value.ordinal(), value);
+                }
+                names.put(value.name(), value);
+            }
+        }
+
+        var sparseOrdinals = new int[sparse.size()];
+        var sparseValues = (T[]) Array.newInstance(type, sparse.size());
+        var i = 0;
+        for (var entry : sparse.entrySet()) {
+            sparseOrdinals[i] = entry.getKey();
+            sparseValues[i++] = entry.getValue();
+        }
+
+        return new Tables<>(ordinals, literals, names, sparseOrdinals, sparseValues, values.length);
+    }
+
+    private record Tables<T>(T[] ordinals, String[] literals, Map<String, T> names, int[] sparseOrdinals, T[] sparseValues, int count) {
+    }
+
+}
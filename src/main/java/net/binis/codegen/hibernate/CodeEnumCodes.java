@@ -0,0 +1,262 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.HibernateException;
+
+import java.lang.reflect.Array;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Explicit stored codes for the values of an enum type, used by {@link CodeEnumType} with {@code useCodes = true}.
+ * <p>
+ * Codes are either small non-negative integers or one/two character ASCII strings, produced by the coder function
+ * registered with {@link #register(Class, Function)}. Decoding goes through a dense array indexed by the code
+ * (two character codes are perfectly hashed into {@code 128 * 128} slots), encoding through an array indexed by
+ * the value ordinal. The tables are rebuilt copy-on-write when values are registered at runtime.
+ */
+@SuppressWarnings("unchecked")
+public class CodeEnumCodes<T extends CodeEnum> {
+
+    public static final int MAX_CODE = Short.MAX_VALUE;
+    public static final int MAX_CODE_LENGTH = 2;
+
+    protected static final int CHAR_BITS = 7;
+    protected static final int CHAR_LIMIT = 1 << CHAR_BITS;
+
+    private static final Map<Class<?>, CodeEnumCodes<?>> registry = new ConcurrentHashMap<>();
+
+    private final CodeEnumJavaType<T> enumJavaType;
+    private final Function<T, ?> coder;
+    private final Map<T, Object> otherCodes = new ConcurrentHashMap<>();
+    private final Map<Object, T> unknownValues = new ConcurrentHashMap<>();
+
+    private volatile Tables<T> tables;
+
+    protected CodeEnumCodes(Class<T> type, Function<T, ?> coder) {
+        this.enumJavaType = new CodeEnumJavaType<>(type);
+        this.coder = coder;
+        this.tables = buildTables();
+    }
+
+    /**
+     * Register the codes of an enum type. The coder must return {@code Integer} or {@code String} codes for all the values.
+     * Codecs keep the registered instance, so an enum type can be registered only once.
+     */
+    public static <T extends CodeEnum> CodeEnumCodes<T> register(Class<T> type, Function<T, ?> coder) {
+        var result = new CodeEnumCodes<>(type, coder);
+        if (nonNull(registry.putIfAbsent(type, result))) {
+            throw new HibernateException("Codes already registered for Enum " + type.getName() + "!");
+        }
+        return result;
+    }
+
+    /**
+     * Remove the codes of an enum type. Codecs already created keep using the removed instance.
+     */
+    public static <T extends CodeEnum> CodeEnumCodes<T> unregister(Class<T> type) {
+        return (CodeEnumCodes<T>) registry.remove(type);
+    }
+
+    public static <T extends CodeEnum> CodeEnumCodes<T> of(Class<T> type) {
+        return (CodeEnumCodes<T>) registry.get(type);
+    }
+
+    public Class<T> getType() {
+        return enumJavaType.getJavaTypeClass();
+    }
+
+    public boolean isNumeric() {
+        return tables.numeric;
+    }
+
+    /**
+     * The biggest numeric code, or the longest character code length
+     */
+    public int getMaxCode() {
+        return tables.max;
+    }
+
+    /**
+     * Interpret a numeric code as value of the enum type
+     */
+    public T fromCode(int code) {
+        var result = lookup(tables, code);
+        return nonNull(result) ? result : fromOtherCode(code);
+    }
+
+    /**
+     * Interpret a character code as value of the enum type. Trailing space padding ({@code CHAR} columns) is ignored.
+     */
+    public T fromCode(String code) {
+        if (isNull(code)) {
+            return null;
+        }
+        var result = lookup(tables, code);
+        return nonNull(result) ? result : fromOtherCode(code.trim());
+    }
+
+    private T fromOtherCode(Object code) {
+        var result = unknownValues.get(code);
+        if (isNull(result)) {
+            var t = refresh();
+            result = code instanceof Integer intCode ? lookup(t, intCode) : lookup(t, (String) code);
+            if (isNull(result)) {
+                result = enumJavaType.getUnknownValues().fromName("CODE(" + code + ")");
+                unknownValues.put(code, result);
+                otherCodes.put(result, code);
+            }
+        }
+        return result;
+    }
+
+    public int toIntCode(T value) {
+        return (Integer) toCode(value);
+    }
+
+    public String toStringCode(T value) {
+        return (String) toCode(value);
+    }
+
+    public Object toCode(T value) {
+        var ordinal = value.ordinal();
+        var t = tables;
+        if (ordinal >= 0 && ordinal < t.codes.length && t.values[ordinal] == value) {
+            return t.codes[ordinal];
+        }
+        var result = otherCodes.get(value);
+        if (isNull(result) && !value.unknown()) {
+            t = refresh();
+            if (ordinal >= 0 && ordinal < t.codes.length && t.values[ordinal] == value) {
+                return t.codes[ordinal];
+            }
+        }
+        if (isNull(result)) {
+            throw new HibernateException("No code for " + getType().getName() + "." + value.name() + "!");
+        }
+        return result;
+    }
+
+    public synchronized Tables<T> refresh() {
+        tables = buildTables();
+        return tables;
+    }
+
+    private T lookup(Tables<T> t, int code) {
+        return t.numeric && code >= 0 && code < t.byCode.length ? t.byCode[code] : null;
+    }
+
+    private T lookup(Tables<T> t, String code) {
+        if (t.numeric) {
+            return null;
+        }
+        var key = key(code);
+        return key >= 0 && key < t.byCode.length ? t.byCode[key] : null;
+    }
+
+    protected static int key(String code) {
+        var length = code.length();
+        if (length == 2 && code.charAt(1) == ' ') {
+            length = 1;
+        }
+        if (length < 1 || length > MAX_CODE_LENGTH) {
+            return -1;
+        }
+        var c0 = code.charAt(0);
+        var c1 = length == 2 ? code.charAt(1) : 0;
+        if (c0 == 0 || c0 >= CHAR_LIMIT || c1 >= CHAR_LIMIT) {
+            return -1;
+        }
+        return c0 << CHAR_BITS | c1;
+    }
+
+    private Tables<T> buildTables() {
+        var type = getType();
+        var values = Arrays.stream(enumJavaType.values()).filter(v -> !v.unknown()).toList();
+        var numeric = true;
+        var maxOrdinal = -1;
+        var max = 0;
+        var keys = new int[values.size()];
+        var codes = new Object[values.size()];
+
+        for (var i = 0; i < values.size(); i++) {
+            var value = values.get(i);
+            var code = coder.apply(value);
+            if (code instanceof Integer intCode) {
+                if (intCode < 0 || intCode > MAX_CODE) {
+                    throw new HibernateException("Invalid code " + code + " for " + type.getName() + "." + value.name() + "!");
+                }
+                keys[i] = intCode;
+                max = Math.max(max, intCode);
+            } else if (code instanceof String strCode) {
+                numeric = false;
+                keys[i] = strCode.endsWith(" ") ? -1 : key(strCode);
+                if (keys[i] < 0) {
+                    throw new HibernateException("Invalid code '" + code + "' for " + type.getName() + "." + value.name() + "!");
+                }
+                max = Math.max(max, strCode.length());
+            } else {
+                throw new HibernateException("Invalid code " + code + " for " + type.getName() + "." + value.name() + "!");
+            }
+            if (i > 0 && (code instanceof Integer) != (codes[0] instanceof Integer)) {
+                throw new HibernateException("Mixed code types for " + type.getName() + "!");
+            }
+            codes[i] = code;
+            if (value.ordinal() > maxOrdinal && value.ordinal() < CodeEnumCodec.MAX_DENSE_ORDINAL) {
+                maxOrdinal = value.ordinal();
+            }
+        }
+
+        var byCode = (T[]) Array.newInstance(type, numeric ? max + 1 : CHAR_LIMIT * CHAR_LIMIT);
+        var byOrdinal = (T[]) Array.newInstance(type, maxOrdinal + 1);
+        var codesByOrdinal = new Object[maxOrdinal + 1];
+        for (var i = 0; i < values.size(); i++) {
+            var value = values.get(i);
+            if (nonNull(byCode[keys[i]]) && byCode[keys[i]] != value) {
+                throw new HibernateException("Duplicate code " + codes[i] + " for " + type.getName() + "." + value.name() + " and " + byCode[keys[i]].name() + "!");
+            }
+            byCode[keys[i]] = value;
+            if (value.ordinal() >= 0 && value.ordinal() <= maxOrdinal) {
+                byOrdinal[value.ordinal()] = value;
+                codesByOrdinal[value.ordinal()] = code(codes[i]);
+            } else {
+                otherCodes.put(value, code(codes[i]));
+            }
+        }
+
+        return new Tables<>(numeric, max, byCode, byOrdinal, codesByOrdinal);
+    }
+
+    private static Object code(Object code) {
+        return code instanceof String str ? str.intern() : code;
+    }
+
+    public record Tables<T>(boolean numeric, int max, T[] byCode, T[] values, Object[] codes) {
+    }
+
+}
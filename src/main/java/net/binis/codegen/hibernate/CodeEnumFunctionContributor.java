@@ -0,0 +1,99 @@
+package net.binis.codegen.hibernate;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.dialect.DB2Dialect;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.H2Dialect;
+import org.hibernate.dialect.HSQLDialect;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.jdbc.Size;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.StandardBasicTypes;
+import org.hibernate.type.spi.TypeConfiguration;
+
+/**
+ * Registers the membership functions for {@link CodeEnumSetType} bitmask columns:
+ * <ul>
+ *     <li>{@code enum_set_contains(column, mask)} - the column contains all values of the mask</li>
+ *     <li>{@code enum_set_contains_one(column, mask)} - the column contains at least one value of the mask</li>
+ * </ul>
+ * and for {@link CodeEnumArrayType} array columns:
+ * <ul>
+ *     <li>{@code enum_array_contains(column, element)} - the column contains the element (a {@code Short} ordinal or a name)</li>
+ *     <li>{@code enum_array_contains_one(column, array)} - the column shares at least one element with the array (PostgreSQL only)</li>
+ * </ul>
+ */
+public class CodeEnumFunctionContributor implements FunctionContributor {
+
+    public static final String CONTAINS = "enum_set_contains";
+    public static final String CONTAINS_ONE = "enum_set_contains_one";
+    public static final String ARRAY_CONTAINS = "enum_array_contains";
+    public static final String ARRAY_CONTAINS_ONE = "enum_array_contains_one";
+
+    @Override
+    public void contributeFunctions(FunctionContributions contributions) {
+        var registry = contributions.getFunctionRegistry();
+        var booleanType = contributions.getTypeConfiguration().getBasicTypeRegistry().resolve(StandardBasicTypes.BOOLEAN);
+        var mask = mask(contributions.getTypeConfiguration());
+        var and = bitAnd(contributions.getDialect(), mask);
+
+        registry.registerPattern(CONTAINS, "(" + and + "=" + mask + ")", booleanType);
+        registry.registerPattern(CONTAINS_ONE, "(" + and + "<>0)", booleanType);
+
+        registry.registerPattern(ARRAY_CONTAINS, arrayContains(contributions.getDialect()), booleanType);
+        if (contributions.getDialect() instanceof PostgreSQLDialect) {
+            registry.registerPattern(ARRAY_CONTAINS_ONE, "(?1&&?2)", booleanType);
+        }
+    }
+
+    /**
+     * The mask argument, cast so databases that can't infer the type of a bare parameter (like H2) accept it. The
+     * cast target is the dialect's own name for {@code BIGINT} casts ({@code signed} on MySQL and MariaDB).
+     */
+    protected String mask(TypeConfiguration types) {
+        var registry = types.getDdlTypeRegistry();
+        var longType = types.getBasicTypeRegistry().resolve(StandardBasicTypes.LONG);
+        return "cast(?2 as " + registry.getDescriptor(SqlTypes.BIGINT).getCastTypeName(Size.nil(), longType, registry) + ")";
+    }
+
+    protected String bitAnd(Dialect dialect, String mask) {
+        if (dialect instanceof H2Dialect || dialect instanceof HSQLDialect || dialect instanceof OracleDialect || dialect instanceof DB2Dialect) {
+            return "bitand(?1," + mask + ")";
+        }
+        return "(?1&" + mask + ")";
+    }
+
+    protected String arrayContains(Dialect dialect) {
+        if (dialect instanceof H2Dialect) {
+            return "array_contains(?1,?2)";
+        }
+        if (dialect instanceof PostgreSQLDialect) {
+            return "(?1@>array[?2])";
+        }
+        return "(?2=any(?1))";
+    }
+
+}
@@ -0,0 +1,187 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+
+import java.io.Serializable;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ObjLongConsumer;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Counts per value of a CodeEnum type, e.g. the result of {@code select testEnum, count(*) ... group by testEnum}.
+ * <p>
+ * Known values are counted in a {@code long[]} indexed by ordinal. Unknown values are resolved through the unknown
+ * value handling of {@link CodeEnumJavaType} and counted aside, as are {@code null} values.
+ */
+public class CodeEnumHistogram<T extends CodeEnum> implements Serializable {
+
+    private static final long[] EMPTY = new long[0];
+
+    private final CodeEnumCodec<T> codec;
+    private long[] counts = EMPTY;
+    private Map<T, Long> others;
+    private long nulls;
+
+    public CodeEnumHistogram(Class<T> type) {
+        this(TupleMapperConversions.codec(type));
+    }
+
+    public CodeEnumHistogram(CodeEnumCodec<T> codec) {
+        this.codec = codec;
+    }
+
+    /**
+     * Histogram from {@code (value, count)} tuples. The value can be the enum value, its ordinal or its name.
+     */
+    public static <T extends CodeEnum> CodeEnumHistogram<T> of(Iterable<Tuple> tuples, Class<T> type) {
+        var result = new CodeEnumHistogram<>(type);
+        for (var tuple : tuples) {
+            result.add(tuple.get(0), ((Number) tuple.get(1)).longValue());
+        }
+        return result;
+    }
+
+    /**
+     * Histogram from native query {@code (value, count)} rows. The value can be the enum value, its ordinal or its name.
+     */
+    public static <T extends CodeEnum> CodeEnumHistogram<T> ofRows(Iterable<Object[]> rows, Class<T> type) {
+        var result = new CodeEnumHistogram<>(type);
+        for (var row : rows) {
+            result.add(row[0], ((Number) row[1]).longValue());
+        }
+        return result;
+    }
+
+    public CodeEnumCodec<T> getCodec() {
+        return codec;
+    }
+
+    @SuppressWarnings("unchecked")
+    public void add(Object value, long count) {
+        if (isNull(value)) {
+            nulls += count;
+            return;
+        }
+
+        int ordinal;
+        T resolved = null;
+        if (value instanceof Number n) {
+            ordinal = n.intValue();
+        } else {
+            resolved = value instanceof CodeEnum e ? (T) e : codec.fromName(value.toString());
+            ordinal = resolved.ordinal();
+        }
+
+        if (isDense(ordinal, resolved)) {
+            if (ordinal >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.min(CodeEnumCodec.MAX_DENSE_ORDINAL, Math.max(ordinal + 1, counts.length * 2)));
+            }
+            counts[ordinal] += count;
+        } else {
+            if (isNull(others)) {
+                others = new LinkedHashMap<>();
+            }
+            others.merge(isNull(resolved) ? codec.fromOrdinal(ordinal) : resolved, count, Long::sum);
+        }
+    }
+
+    public long get(T value) {
+        if (isNull(value)) {
+            return nulls;
+        }
+        var ordinal = value.ordinal();
+        if (isDense(ordinal, value)) {
+            return ordinal < counts.length ? counts[ordinal] : 0L;
+        }
+        return isNull(others) ? 0L : others.getOrDefault(value, 0L);
+    }
+
+    /**
+     * Count of the known value with the ordinal
+     */
+    public long getByOrdinal(int ordinal) {
+        return ordinal >= 0 && ordinal < counts.length ? counts[ordinal] : 0L;
+    }
+
+    public long getNulls() {
+        return nulls;
+    }
+
+    public long total() {
+        var result = nulls;
+        for (var count : counts) {
+            result += count;
+        }
+        if (nonNull(others)) {
+            for (var count : others.values()) {
+                result += count;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Counts of the known values by ordinal
+     */
+    public long[] toArray() {
+        return counts.clone();
+    }
+
+    /**
+     * Visit the non-zero counts, known values in ordinal order first, then the unknown values. {@code null} values
+     * are not visited.
+     */
+    public void forEach(ObjLongConsumer<T> action) {
+        for (var i = 0; i < counts.length; i++) {
+            if (counts[i] != 0) {
+                action.accept(codec.fromOrdinal(i), counts[i]);
+            }
+        }
+        if (nonNull(others)) {
+            others.forEach(action::accept);
+        }
+    }
+
+    /**
+     * Counts as an ordinal indexed map
+     */
+    public Map<T, Long> toMap() {
+        var result = new CodeEnumArrayMap<T, Long>(codec);
+        forEach(result::put);
+        return result;
+    }
+
+    private boolean isDense(int ordinal, T value) {
+        if (ordinal < 0 || ordinal >= CodeEnumCodec.MAX_DENSE_ORDINAL) {
+            return false;
+        }
+        var known = codec.fromOrdinal(ordinal);
+        return !known.unknown() && (isNull(value) || known == value);
+    }
+
+}
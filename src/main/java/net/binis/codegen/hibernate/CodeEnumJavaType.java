@@ -22,7 +22,6 @@ package net.binis.codegen.hibernate;
 
 import java.util.Arrays;
 import java.util.Set;
-import java.util.UUID;
 
 import net.binis.codegen.factory.CodeFactory;
 import net.binis.codegen.objects.base.enumeration.CodeEnum;
@@ -39,6 +38,7 @@ import org.hibernate.type.descriptor.jdbc.JdbcTypeIndicators;
 
 import static jakarta.persistence.EnumType.ORDINAL;
 import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
 import static org.hibernate.internal.util.collections.CollectionHelper.setOfSize;
 import static org.hibernate.type.SqlTypes.CHAR;
 import static org.hibernate.type.SqlTypes.ENUM;
@@ -53,6 +53,8 @@ import static org.hibernate.type.SqlTypes.VARCHAR;
 
 public class CodeEnumJavaType<T extends CodeEnum> extends AbstractClassJavaType<T> {
 
+    private transient CodeEnumUnknownValues<T> unknownValues;
+
     public CodeEnumJavaType(Class<T> type) {
         super(type, ImmutableMutabilityPlan.instance());
     }
@@ -90,7 +92,30 @@ public class CodeEnumJavaType<T extends CodeEnum> extends AbstractClassJavaType<
 
     public boolean hasManyValues() {
         // a bit arbitrary, but gives us some headroom
-        return CodeFactory.enumValues(getJavaType()).length > 128;
+        return values().length > 128;
+    }
+
+    /**
+     * Registered values of the enum type, initializing the enum type if it isn't yet
+     */
+    public T[] values() {
+        var result = CodeFactory.enumValues(getJavaTypeClass());
+        if (result.length == 0) {
+            try {
+                Class.forName(getJavaTypeClass().getName(), true, getJavaTypeClass().getClassLoader());
+            } catch (ClassNotFoundException e) {
+                //Do nothing
+            }
+            result = CodeFactory.enumValues(getJavaTypeClass());
+        }
+        return result;
+    }
+
+    public CodeEnumUnknownValues<T> getUnknownValues() {
+        if (isNull(unknownValues)) {
+            unknownValues = CodeEnumUnknownValues.of(getJavaTypeClass());
+        }
+        return unknownValues;
     }
 
     @Override
@@ -206,6 +231,7 @@ public class CodeEnumJavaType<T extends CodeEnum> extends AbstractClassJavaType<
         if (relationalForm == null) {
             return null;
         }
+        converted();
         return CodeFactory.enumValuesMap(getJavaTypeClass()).get(relationalForm.intValue());
     }
 
@@ -216,6 +242,7 @@ public class CodeEnumJavaType<T extends CodeEnum> extends AbstractClassJavaType<
         if (relationalForm == null) {
             return null;
         }
+        converted();
         return CodeFactory.enumValuesMap(getJavaTypeClass()).get(relationalForm.intValue());
     }
 
@@ -226,14 +253,15 @@ public class CodeEnumJavaType<T extends CodeEnum> extends AbstractClassJavaType<
         if (relationalForm == null) {
             return null;
         }
+        return counted(lookupOrdinal(relationalForm));
+    }
 
-        var result = CodeFactory.enumValueOf(getJavaType(), relationalForm);
-
-        if (isNull(result)) {
-            result = CodeFactory.initializeUnknownEnumValue(getJavaType(), UUID.randomUUID().toString(), relationalForm);
-        }
-
-        return result;
+    /**
+     * Resolve the value of an ordinal without counting it, for callers that count their own conversions
+     */
+    protected T lookupOrdinal(int ordinal) {
+        var result = CodeFactory.enumValueOf(getJavaType(), ordinal);
+        return nonNull(result) && !result.unknown() ? result : getUnknownValues().fromOrdinal(ordinal);
     }
 
     /**
@@ -243,6 +271,7 @@ public class CodeEnumJavaType<T extends CodeEnum> extends AbstractClassJavaType<
         if (relationalForm == null) {
             return null;
         }
+        converted();
         return CodeFactory.enumValuesMap(getJavaTypeClass()).get(relationalForm.intValue());
     }
 
@@ -267,13 +296,33 @@ public class CodeEnumJavaType<T extends CodeEnum> extends AbstractClassJavaType<
         if (relationalForm == null) {
             return null;
         }
-        var result = CodeFactory.enumValueOf(getJavaType(), relationalForm);
+        return counted(lookupName(relationalForm));
+    }
 
-        if (isNull(result)) {
-            result = CodeFactory.initializeUnknownEnumValue(getJavaType(), relationalForm, Integer.MIN_VALUE);
+    /**
+     * Resolve the value of a name without counting it, for callers that count their own conversions
+     */
+    protected T lookupName(String name) {
+        var result = CodeFactory.enumValueOf(getJavaType(), name);
+        return nonNull(result) && !result.unknown() ? result : getUnknownValues().fromName(name);
+    }
+
+    private T counted(T value) {
+        var metrics = CodeHibernateMonitoring.enumMetrics(getJavaTypeClass());
+        if (nonNull(metrics)) {
+            metrics.converted();
+            if (value.unknown()) {
+                metrics.unknown();
+            }
         }
+        return value;
+    }
 
-        return result;
+    private void converted() {
+        var metrics = CodeHibernateMonitoring.enumMetrics(getJavaTypeClass());
+        if (nonNull(metrics)) {
+            metrics.converted();
+        }
     }
 
     @Override
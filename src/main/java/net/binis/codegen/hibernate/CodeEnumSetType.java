@@ -0,0 +1,273 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.HibernateException;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.internal.util.ReflectHelper;
+import org.hibernate.usertype.DynamicParameterizedType;
+import org.hibernate.usertype.UserType;
+
+import java.io.Serializable;
+import java.lang.reflect.ParameterizedType;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Properties;
+import java.util.Set;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+import static org.hibernate.type.SqlTypes.BIGINT;
+import static org.hibernate.type.SqlTypes.VARBINARY;
+
+/**
+ * Stores a {@code Set} of enum values into a single column as a bitmask of the value ordinals. A bitmask keeps
+ * neither order nor duplicates, so {@code List} attributes are rejected.
+ * <p>
+ * Enum types with ordinals up to 63 are stored as {@code BIGINT}, bigger ones as {@code VARBINARY} bitset
+ * (little-endian, see {@link BitSet#toByteArray()}). Membership checks on {@code BIGINT} columns can be done with
+ * the {@code enum_set_contains} and {@code enum_set_contains_one} functions registered by
+ * {@link CodeEnumFunctionContributor}, using {@link #mask(Collection)} to produce the parameter.
+ */
+@Slf4j
+@SuppressWarnings("unchecked")
+public class CodeEnumSetType implements UserType<Collection<CodeEnum>>, DynamicParameterizedType, Serializable {
+
+    public static final String ENUM = CodeEnumType.ENUM;
+    public static final String TYPE = CodeEnumType.TYPE;
+
+    protected static final int MAX_MASK_ORDINAL = Long.SIZE - 1;
+
+    private Class enumClass;
+    private int sqlType;
+
+    private CodeEnumJavaType<CodeEnum> enumJavaType;
+
+    public CodeEnumSetType() {
+    }
+
+    public Class getEnumClass() {
+        return enumClass;
+    }
+
+    @Override
+    public void setParameterValues(Properties parameters) {
+        final DynamicParameterizedType.ParameterType reader = (DynamicParameterizedType.ParameterType) parameters.get(PARAMETER_TYPE);
+
+        if (nonNull(reader)) {
+            if (!reader.getReturnedClass().isAssignableFrom(LinkedHashSet.class)) {
+                throw new HibernateException(CodeEnumSetType.class.getSimpleName() + " can store only Set attributes, " + reader.getReturnedClass().getName() + " would lose its order and duplicates!");
+            }
+            if (reader.getReturnedJavaType() instanceof ParameterizedType type && type.getActualTypeArguments()[0] instanceof Class<?> cls) {
+                enumClass = cls;
+            }
+        }
+
+        if (parameters.containsKey(ENUM)) {
+            final String enumClassName = (String) parameters.get(ENUM);
+            try {
+                enumClass = ReflectHelper.classForName(enumClassName, this.getClass()).asSubclass(CodeEnum.class);
+            } catch (ClassNotFoundException exception) {
+                throw new HibernateException("Enum class not found: " + enumClassName, exception);
+            }
+        }
+
+        if (isNull(enumClass) || !CodeEnum.class.isAssignableFrom(enumClass)) {
+            throw new HibernateException("Unable to resolve enum class for " + CodeEnumSetType.class.getSimpleName() + "!");
+        }
+
+        enumJavaType = new CodeEnumJavaType<>(enumClass);
+
+        if (parameters.containsKey(TYPE)) {
+            sqlType = Integer.parseInt((String) parameters.get(TYPE));
+        } else {
+            sqlType = Arrays.stream(enumJavaType.values()).filter(v -> !v.unknown()).mapToInt(CodeEnum::ordinal).max().orElse(0) > MAX_MASK_ORDINAL ? VARBINARY : BIGINT;
+        }
+
+        if (log.isDebugEnabled()) {
+            log.debug("Using {} bitmask for Enum {}", sqlType == BIGINT ? "BIGINT" : "VARBINARY", enumClass.getName());
+        }
+    }
+
+    @Override
+    public int getSqlType() {
+        return sqlType;
+    }
+
+    @Override
+    public Class<Collection<CodeEnum>> returnedClass() {
+        return (Class) Set.class;
+    }
+
+    @Override
+    public Collection<CodeEnum> nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner) throws SQLException {
+        if (sqlType == BIGINT) {
+            var mask = rs.getLong(position);
+            return rs.wasNull() ? null : fromMask(mask);
+        }
+        var bytes = rs.getBytes(position);
+        return isNull(bytes) ? null : fromBitSet(BitSet.valueOf(bytes));
+    }
+
+    @Override
+    public void nullSafeSet(PreparedStatement st, Collection<CodeEnum> value, int index, SharedSessionContractImplementor session) throws SQLException {
+        if (isNull(value)) {
+            st.setNull(index, sqlType);
+        } else if (sqlType == BIGINT) {
+            st.setLong(index, mask(value));
+        } else {
+            st.setBytes(index, bitSet(value).toByteArray());
+        }
+    }
+
+    /**
+     * Convert a collection of enum values to a {@code BIGINT} bitmask
+     */
+    public static long mask(Collection<? extends CodeEnum> values) {
+        var result = 0L;
+        for (var value : values) {
+            if (nonNull(value)) {
+                result |= 1L << checkOrdinal(value, MAX_MASK_ORDINAL);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Convert enum values to a {@code BIGINT} bitmask
+     */
+    public static long mask(CodeEnum... values) {
+        return mask(Arrays.asList(values));
+    }
+
+    /**
+     * Convert a collection of enum values to a bitset
+     */
+    public static BitSet bitSet(Collection<? extends CodeEnum> values) {
+        var result = new BitSet();
+        for (var value : values) {
+            if (nonNull(value)) {
+                result.set(checkOrdinal(value, Integer.MAX_VALUE));
+            }
+        }
+        return result;
+    }
+
+    private static int checkOrdinal(CodeEnum value, int max) {
+        var ordinal = value.ordinal();
+        if (ordinal < 0 || ordinal > max) {
+            throw new HibernateException("Enum value " + value.name() + " with ordinal " + ordinal + " can't be stored in a bitmask!");
+        }
+        return ordinal;
+    }
+
+    protected Collection<CodeEnum> fromMask(long mask) {
+        var result = newCollection(Long.bitCount(mask));
+        while (mask != 0) {
+            var ordinal = Long.numberOfTrailingZeros(mask);
+            result.add(enumJavaType.fromInteger(ordinal));
+            mask &= mask - 1;
+        }
+        return result;
+    }
+
+    protected Collection<CodeEnum> fromBitSet(BitSet bits) {
+        var result = newCollection(bits.cardinality());
+        for (var ordinal = bits.nextSetBit(0); ordinal >= 0; ordinal = bits.nextSetBit(ordinal + 1)) {
+            result.add(enumJavaType.fromInteger(ordinal));
+        }
+        return result;
+    }
+
+    protected Collection<CodeEnum> newCollection(int size) {
+        return new LinkedHashSet<>(size * 2);
+    }
+
+    @Override
+    public boolean equals(Collection<CodeEnum> x, Collection<CodeEnum> y) {
+        if (x == y) {
+            return true;
+        }
+        if (isNull(x) || isNull(y)) {
+            return false;
+        }
+        return x.size() == y.size() && x.containsAll(y) && y.containsAll(x);
+    }
+
+    @Override
+    public int hashCode(Collection<CodeEnum> x) {
+        if (isNull(x)) {
+            return 0;
+        }
+        var result = 0;
+        for (var value : x) {
+            result += Objects.hashCode(value);
+        }
+        return result;
+    }
+
+    @Override
+    public Collection<CodeEnum> deepCopy(Collection<CodeEnum> value) {
+        if (isNull(value)) {
+            return null;
+        }
+        var result = newCollection(value.size());
+        result.addAll(value);
+        return result;
+    }
+
+    @Override
+    public boolean isMutable() {
+        return true;
+    }
+
+    @Override
+    public Serializable disassemble(Collection<CodeEnum> value) {
+        if (isNull(value)) {
+            return null;
+        }
+        return sqlType == BIGINT ? (Serializable) mask(value) : bitSet(value).toByteArray();
+    }
+
+    @Override
+    public Collection<CodeEnum> assemble(Serializable cached, Object owner) {
+        if (isNull(cached)) {
+            return null;
+        } else if (cached instanceof Long mask) {
+            return fromMask(mask);
+        }
+        return fromBitSet(BitSet.valueOf((byte[]) cached));
+    }
+
+    @Override
+    public Collection<CodeEnum> replace(Collection<CodeEnum> original, Collection<CodeEnum> target, Object owner) {
+        return deepCopy(original);
+    }
+
+}
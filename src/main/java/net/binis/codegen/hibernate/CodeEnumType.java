@@ -49,6 +49,9 @@ import java.util.Properties;
 import static jakarta.persistence.EnumType.ORDINAL;
 import static jakarta.persistence.EnumType.STRING;
 import static org.hibernate.internal.util.config.ConfigurationHelper.getBoolean;
+import static org.hibernate.type.SqlTypes.CHAR;
+import static org.hibernate.type.SqlTypes.SMALLINT;
+import static org.hibernate.type.SqlTypes.TINYINT;
 
 @Slf4j
 @SuppressWarnings("unchecked")
@@ -57,12 +60,16 @@ public class CodeEnumType implements EnhancedUserType<CodeEnum>, DynamicParamete
     public static final String ENUM = "enumClass";
     public static final String NAMED = "useNamed";
     public static final String TYPE = "type";
+    public static final String CODES = "useCodes";
 
     private Class enumClass;
     private boolean useString;
+    private String attribute;
 
     private JdbcType jdbcType;
     private CodeEnumJavaType<CodeEnum> enumJavaType;
+    private CodeEnumCodec<CodeEnum> codec;
+    private transient CodeHibernateMonitoring.Resolved<CodeHibernateMetrics.AttributeMetrics> metrics;
 
     private TypeConfiguration typeConfiguration;
 
@@ -76,12 +83,14 @@ public class CodeEnumType implements EnhancedUserType<CodeEnum>, DynamicParamete
     @SuppressWarnings("deprecation")
     @Override
     public void setParameterValues(Properties parameters) {
+        final CodeHibernateEvents.EnumTypeEvent event = new CodeHibernateEvents.EnumTypeEvent();
+        event.begin();
         final DynamicParameterizedType.ParameterType reader = (DynamicParameterizedType.ParameterType) parameters.get(PARAMETER_TYPE);
 
         if (parameters.containsKey(ENUM)) {
             final String enumClassName = (String) parameters.get(ENUM);
             try {
-                enumClass = ReflectHelper.classForName(enumClassName, this.getClass()).asSubclass(Enum.class);
+                enumClass = ReflectHelper.classForName(enumClassName, this.getClass()).asSubclass(CodeEnum.class);
             } catch (ClassNotFoundException exception) {
                 throw new HibernateException("Enum class not found: " + enumClassName, exception);
             }
@@ -91,9 +100,25 @@ public class CodeEnumType implements EnhancedUserType<CodeEnum>, DynamicParamete
 
         enumJavaType = new CodeEnumJavaType<>(enumClass);
 
+        final String entity = parameters.getProperty(ENTITY);
+        final String property = parameters.getProperty(PROPERTY);
+        attribute = entity != null && property != null ? entity + "." + property : enumClass.getName();
+
+        CodeEnumCodes<CodeEnum> codes = null;
+        if (getBoolean(CODES, parameters)) {
+            codes = CodeEnumCodes.of(enumClass);
+            if (codes == null) {
+                throw new HibernateException("No codes registered for Enum " + enumClass.getName());
+            }
+        }
+
         if (parameters.containsKey(TYPE)) {
             int jdbcTypeCode = Integer.parseInt((String) parameters.get(TYPE));
             jdbcType = typeConfiguration.getJdbcTypeRegistry().getDescriptor(jdbcTypeCode);
+        } else if (codes != null) {
+            jdbcType = typeConfiguration.getJdbcTypeRegistry().getDescriptor(codes.isNumeric()
+                    ? codes.getMaxCode() > Byte.MAX_VALUE ? SMALLINT : TINYINT
+                    : CHAR);
         } else {
             final LocalJdbcTypeIndicators indicators;
             final Long columnLength = reader == null ? null : reader.getColumnLengths()[0];
@@ -114,13 +139,25 @@ public class CodeEnumType implements EnhancedUserType<CodeEnum>, DynamicParamete
             jdbcType = enumJavaType.getRecommendedJdbcType(indicators);
         }
 
+        codec = new CodeEnumCodec<>(enumJavaType, jdbcType, codes);
+
+        final String conversion = codes != null ? "CODE" : isOrdinal() ? "ORDINAL" : "NAMED";
         if (log.isDebugEnabled()) {
             log.debug(
                     "Using {}-based conversion for Enum {}",
-                    isOrdinal() ? "ORDINAL" : "NAMED",
+                    conversion,
                     enumClass.getName()
             );
         }
+
+        event.end();
+        if (event.shouldCommit()) {
+            event.enumClass = enumClass;
+            event.attribute = attribute;
+            event.jdbcType = jdbcType.getFriendlyName();
+            event.conversion = conversion;
+            event.commit();
+        }
     }
 
     private jakarta.persistence.EnumType getEnumType(DynamicParameterizedType.ParameterType reader) {
@@ -160,6 +197,14 @@ public class CodeEnumType implements EnhancedUserType<CodeEnum>, DynamicParamete
         return jdbcType.getJdbcTypeCode();
     }
 
+    @Override
+    public long getDefaultSqlLength() {
+        if (codec != null && codec.getCodes() != null && !codec.getCodes().isNumeric()) {
+            return codec.getCodes().getMaxCode();
+        }
+        return EnhancedUserType.super.getDefaultSqlLength();
+    }
+
     @Override
     public Class returnedClass() {
         return enumClass;
@@ -178,11 +223,24 @@ public class CodeEnumType implements EnhancedUserType<CodeEnum>, DynamicParamete
     @Override
     public CodeEnum nullSafeGet(ResultSet rs, int position, SharedSessionContractImplementor session, Object owner) throws SQLException {
         verifyConfigured();
-        return jdbcType.getExtractor(enumJavaType).extract(rs, position, session);
+        final CodeHibernateMetrics.AttributeMetrics metrics = attributeMetrics();
+        if (metrics != null) {
+            metrics.extracted();
+        }
+        return codec.read(rs, position, session);
+    }
+
+    private CodeHibernateMetrics.AttributeMetrics attributeMetrics() {
+        if (metrics == null) {
+            //Not serialized, racing threads at most resolve twice
+            final String name = attribute;
+            metrics = new CodeHibernateMonitoring.Resolved<>(m -> m.attributeMetrics(name));
+        }
+        return metrics.get();
     }
 
     private void verifyConfigured() {
-        if (enumJavaType == null) {
+        if (enumJavaType == null || codec == null) {
             throw new AssertionFailure("EnumType (" + enumClass.getName() + ") not properly, fully configured");
         }
     }
@@ -190,7 +248,11 @@ public class CodeEnumType implements EnhancedUserType<CodeEnum>, DynamicParamete
     @Override
     public void nullSafeSet(PreparedStatement st, CodeEnum value, int index, SharedSessionContractImplementor session) throws HibernateException, SQLException {
         verifyConfigured();
-        jdbcType.getBinder(enumJavaType).bind(st, value, index, session);
+        final CodeHibernateMetrics.AttributeMetrics metrics = attributeMetrics();
+        if (metrics != null) {
+            metrics.bound();
+        }
+        codec.write(st, value, index, session);
     }
 
     @Override
@@ -205,12 +267,14 @@ public class CodeEnumType implements EnhancedUserType<CodeEnum>, DynamicParamete
 
     @Override
     public Serializable disassemble(CodeEnum value) throws HibernateException {
-        return null;
+        verifyConfigured();
+        return codec.disassemble(value);
     }
 
     @Override
     public CodeEnum assemble(Serializable cached, Object owner) throws HibernateException {
-        return (CodeEnum) cached;
+        verifyConfigured();
+        return codec.assemble(cached);
     }
 
     @Override
@@ -231,9 +295,7 @@ public class CodeEnumType implements EnhancedUserType<CodeEnum>, DynamicParamete
     @Override
     public String toSqlLiteral(CodeEnum value) {
         verifyConfigured();
-        return isOrdinal()
-                ? Integer.toString(value.ordinal())
-                : "'" + value.name() + "'";
+        return codec.toSqlLiteral(value);
     }
 
     @Override
@@ -259,6 +321,11 @@ public class CodeEnumType implements EnhancedUserType<CodeEnum>, DynamicParamete
         return jdbcType.isInteger();
     }
 
+    public CodeEnumCodec<CodeEnum> getCodec() {
+        verifyConfigured();
+        return codec;
+    }
+
     private class LocalJdbcTypeIndicators implements JdbcTypeIndicators {
         private final jakarta.persistence.EnumType enumType;
         private final boolean nationalized;
@@ -0,0 +1,215 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Creates the unknown values (values present in the database, but not registered for the enum type) of a single
+ * enum type, with a deterministic name for unknown ordinals.
+ * <p>
+ * {@link CodeFactory} registers every unknown value it creates for good, so each unknown ordinal or name is created
+ * once and resolved by {@code CodeFactory.enumValueOf()} afterwards. Creation is serialized per enum type, since
+ * {@code CodeFactory} registers the new value in plain hash maps. At most {@link #getMaxSize()} unknown values are
+ * created per enum type, further unknown ordinals and names resolve to a single shared unknown value, which can't be
+ * written back.
+ */
+public class CodeEnumUnknownValues<T extends CodeEnum> {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+
+    /**
+     * Name of the shared unknown value, not a valid constant name, so it can't clash with a registered value
+     */
+    public static final String OVERFLOW_NAME = "UNKNOWN(*)";
+
+    private static final Map<Class<?>, CodeEnumUnknownValues<?>> registry = new ConcurrentHashMap<>();
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+
+    private final Class<T> type;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder overflows = new LongAdder();
+    private volatile int created;
+    private volatile T overflow;
+
+    protected CodeEnumUnknownValues(Class<T> type) {
+        this.type = type;
+    }
+
+    @SuppressWarnings("unchecked")
+    public static <T extends CodeEnum> CodeEnumUnknownValues<T> of(Class<T> type) {
+        return (CodeEnumUnknownValues<T>) registry.computeIfAbsent(type, t -> new CodeEnumUnknownValues<>(type));
+    }
+
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    /**
+     * Number of unknown values created per enum type before falling back to the shared unknown value
+     */
+    public static void setMaxSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Max size must be positive!");
+        }
+        maxSize = size;
+    }
+
+    public static String unknownName(int ordinal) {
+        return "UNKNOWN(" + ordinal + ")";
+    }
+
+    /**
+     * Check if the value is the shared unknown value returned past the size limit
+     */
+    public static boolean isOverflow(CodeEnum value) {
+        return value.unknown() && OVERFLOW_NAME.equals(value.name());
+    }
+
+    /**
+     * Get the unknown value for an ordinal that isn't registered for the enum type
+     */
+    public T fromOrdinal(int ordinal) {
+        var result = CodeFactory.enumValueOf(type, ordinal);
+        if (nonNull(result)) {
+            return hit(result);
+        }
+        if (created >= maxSize) {
+            return overflow();
+        }
+        synchronized (this) {
+            result = CodeFactory.enumValueOf(type, ordinal);
+            if (nonNull(result)) {
+                return hit(result);
+            }
+            if (created >= maxSize) {
+                return overflow();
+            }
+            return miss(CodeFactory.initializeUnknownEnumValue(type, unknownName(ordinal), ordinal));
+        }
+    }
+
+    /**
+     * Get the unknown value for a name that isn't registered for the enum type
+     */
+    public T fromName(String name) {
+        var result = CodeFactory.enumValueOf(type, name);
+        if (nonNull(result)) {
+            return hit(result);
+        }
+        if (created >= maxSize) {
+            return overflow();
+        }
+        synchronized (this) {
+            result = CodeFactory.enumValueOf(type, name);
+            if (nonNull(result)) {
+                return hit(result);
+            }
+            if (created >= maxSize) {
+                return overflow();
+            }
+            return miss(CodeFactory.initializeUnknownEnumValue(type, name, Integer.MIN_VALUE));
+        }
+    }
+
+    private T hit(T value) {
+        hits.increment();
+        var metrics = CodeHibernateMonitoring.enumMetrics(type);
+        if (nonNull(metrics)) {
+            metrics.unknownHit();
+        }
+        return value;
+    }
+
+    private T miss(T value) {
+        created++;
+        misses.increment();
+        var metrics = CodeHibernateMonitoring.enumMetrics(type);
+        if (nonNull(metrics)) {
+            metrics.unknownMiss();
+        }
+        return value;
+    }
+
+    private T overflow() {
+        overflows.increment();
+        var metrics = CodeHibernateMonitoring.enumMetrics(type);
+        if (nonNull(metrics)) {
+            metrics.unknownOverflow();
+        }
+        var result = overflow;
+        if (isNull(result)) {
+            synchronized (this) {
+                result = overflow;
+                if (isNull(result)) {
+                    result = CodeFactory.enumValueOf(type, OVERFLOW_NAME);
+                    if (isNull(result)) {
+                        result = CodeFactory.initializeUnknownEnumValue(type, OVERFLOW_NAME, Integer.MIN_VALUE);
+                    }
+                    overflow = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    public Class<T> getType() {
+        return type;
+    }
+
+    /**
+     * Number of unknown values created for the enum type
+     */
+    public int size() {
+        return created;
+    }
+
+    /**
+     * Lookups resolved to an unknown value created before
+     */
+    public long getHits() {
+        return hits.sum();
+    }
+
+    /**
+     * Lookups that created a new unknown value
+     */
+    public long getMisses() {
+        return misses.sum();
+    }
+
+    /**
+     * Lookups resolved to the shared unknown value, after the size limit was reached
+     */
+    public long getOverflows() {
+        return overflows.sum();
+    }
+
+}
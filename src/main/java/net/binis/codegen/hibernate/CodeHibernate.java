@@ -22,48 +22,465 @@ package net.binis.codegen.hibernate;
 
 import jakarta.persistence.Tuple;
 import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
 import lombok.extern.java.Log;
 import net.binis.codegen.annotation.CodeConfiguration;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.factory.CodeFactory;
 import net.binis.codegen.map.Mapper;
+import net.binis.codegen.map.Mapping;
 import net.binis.codegen.map.MappingStrategy;
 import net.binis.codegen.map.executor.MapperExecutor;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
 import net.binis.codegen.tools.Reflection;
+import org.hibernate.ScrollMode;
+import org.hibernate.ScrollableResults;
+import org.hibernate.Session;
+import org.hibernate.SharedSessionContract;
+import org.hibernate.query.Query;
+import org.hibernate.query.spi.SqmQuery;
+import org.hibernate.query.sqm.spi.CacheabilityInfluencers;
 
+import java.lang.reflect.Array;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.TreeMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
+import static java.util.Objects.isNull;
 import static java.util.Objects.nonNull;
 
 @Log
 @CodeConfiguration
 public class CodeHibernate {
 
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 10_000;
+
+    protected static final int MIN_PARALLEL_CHUNK = 1024;
+
+    private static volatile int parallelThreshold = DEFAULT_PARALLEL_THRESHOLD;
+    private static volatile ForkJoinPool pool;
+
     @SuppressWarnings("unchecked")
     public static void initialize() {
-        Mapper.registerMapper(Tuple.class, Object.class, (source, destination) -> {
-            var executor = new TupleMapperExecutor(source, destination, false, false, MappingStrategy.GETTERS_SETTERS, null);
-            return executor.map(source, destination);
+        Mapper.registerMapper(Tuple.class, Object.class, (source, destination) ->
+                measured(destination.getClass(), () -> plan(source, destination).map(source, destination)));
+        Mapper.registerMapperClass(Tuple.class, Record.class, (source, destination) ->
+                measured(destination, () -> constructorPlan(source, destination).map(source)));
+        TupleScalarMapper.MAPPER_TYPES.forEach(type -> Mapper.registerMapperClass(Tuple.class, type, (source, destination) ->
+                measured(destination, () -> TupleScalarMapper.map(source, destination))));
+        TupleMapperDefinitions.load(CodeHibernate.class.getClassLoader());
+    }
+
+    public static int getParallelThreshold() {
+        return parallelThreshold;
+    }
+
+    /**
+     * Row count above which {@link #map(List, Class)} maps in parallel
+     */
+    public static void setParallelThreshold(int threshold) {
+        if (threshold < 1) {
+            throw new IllegalArgumentException("Threshold must be positive!");
+        }
+        parallelThreshold = threshold;
+    }
+
+    public static ForkJoinPool getPool() {
+        return isNull(pool) ? ForkJoinPool.commonPool() : pool;
+    }
+
+    /**
+     * Pool used for parallel mapping, the common pool if not set
+     */
+    public static void setPool(ForkJoinPool pool) {
+        CodeHibernate.pool = pool;
+    }
+
+    /**
+     * Map a single tuple. Unlike {@code Mapper.convert()} this also handles classes that can be created only through
+     * an all-args constructor.
+     */
+    public static <T> T map(Tuple tuple, Class<T> destination) {
+        return measured(destination, () -> mapRow(tuple, destination));
+    }
+
+    /**
+     * Run a single row mapping, recording it in the destination metrics when monitoring is enabled
+     */
+    private static <T> T measured(Class<?> destination, Supplier<T> mapping) {
+        var metrics = CodeHibernateMonitoring.destinationMetrics(destination);
+        if (isNull(metrics)) {
+            return mapping.get();
+        }
+        var start = System.nanoTime();
+        var result = mapping.get();
+        metrics.rowsMapped(1, System.nanoTime() - start);
+        return result;
+    }
+
+    /**
+     * Map a list of tuples (usually a query result) to a fixed size list of destination objects.
+     * <p>
+     * The mapping plan is resolved once for the list, and lists above {@link #getParallelThreshold()} rows are mapped
+     * in parallel on {@link #getPool()}.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> List<T> map(List<Tuple> tuples, Class<T> destination) {
+        var size = tuples.size();
+        if (size == 0) {
+            return List.of();
+        }
+        if (!(tuples instanceof RandomAccess)) {
+            tuples = new ArrayList<>(tuples);
+        }
+
+        var metrics = CodeHibernateMonitoring.destinationMetrics(destination);
+        var start = nonNull(metrics) ? System.nanoTime() : 0L;
+        var event = new CodeHibernateEvents.BatchEvent();
+        event.begin();
+        var result = new Object[size];
+        var mapper = rowMapper(tuples.get(0), destination);
+
+        if (size > parallelThreshold) {
+            var p = getPool();
+            var chunk = Math.max(MIN_PARALLEL_CHUNK, size / (p.getParallelism() * 4));
+            p.invoke(new MapTask(tuples, mapper, result, 0, size, chunk));
+        } else {
+            mapRange(tuples, mapper, result, 0, size);
+        }
+        if (nonNull(metrics)) {
+            metrics.rowsMapped(size, System.nanoTime() - start);
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.destination = destination;
+            event.rows = size;
+            event.parallel = size > parallelThreshold;
+            event.commit();
+        }
+        return (List<T>) Arrays.asList(result);
+    }
+
+    private static void mapRange(List<Tuple> tuples, Function<Tuple, ?> mapper, Object[] result, int from, int to) {
+        for (var i = from; i < to; i++) {
+            result[i] = mapper.apply(tuples.get(i));
+        }
+    }
+
+    /**
+     * Row mapping function bound to the plan of the first tuple, falling back to the plan cache for other shapes
+     */
+    protected static <T> Function<Tuple, T> rowMapper(Tuple first, Class<T> destination) {
+        var elements = first.getElements();
+        if (TupleScalarMapper.isScalar(destination)) {
+            return tuple -> TupleScalarMapper.map(tuple, destination);
+        }
+        if (TupleConstructorMapper.isApplicable(destination)) {
+            var plan = constructorPlan(first, destination);
+            return tuple -> (tuple.getElements() == elements ? plan : constructorPlan(tuple, destination)).map(tuple);
+        }
+        var plan = plan(first, create(destination));
+        return tuple -> {
+            var row = create(destination);
+            return (tuple.getElements() == elements ? plan : plan(tuple, row)).map(tuple, row);
+        };
+    }
+
+    /**
+     * Hibernate tuple transformer mapping the query rows into destination objects without creating {@link Tuple}s.
+     * The transformer is stateful, use a new one for each query.
+     */
+    public static <T> TupleMapperTransformer<T> transformer(Class<T> destination) {
+        return new TupleMapperTransformer<>(destination);
+    }
+
+    /**
+     * Lazily map a stream of tuples (e.g. {@code TypedQuery.getResultStream()})
+     */
+    public static <T> Stream<T> stream(Stream<Tuple> tuples, Class<T> destination) {
+        return tuples.map(tuple -> map(tuple, destination));
+    }
+
+    /**
+     * Lazily map scrollable results. Closing the stream closes the results.
+     */
+    public static <T> Stream<T> stream(ScrollableResults<Tuple> results, Class<T> destination) {
+        return stream(results, destination, null, 0);
+    }
+
+    /**
+     * Lazily map the results of a tuple query, scrolled forward only with the given JDBC fetch size. The session
+     * persistence context is cleared every {@code clearInterval} rows (never if not positive), so the heap stays flat
+     * regardless of the result size. Closing the stream closes the underlying results.
+     */
+    public static <T> Stream<T> stream(TypedQuery<Tuple> query, Class<T> destination, int fetchSize, int clearInterval) {
+        var hibernateQuery = prepare(query, fetchSize);
+        return stream(hibernateQuery.scroll(ScrollMode.FORWARD_ONLY), destination, hibernateQuery.getSession(), clearInterval);
+    }
+
+    /**
+     * Map scrollable results into a single reused destination object, passed to the action for each row. The action
+     * must not keep a reference to the object. Value types, records and all-args classes are immutable, so they get
+     * a new object for each row. Closes the results and returns the number of rows.
+     */
+    public static <T> long forEach(ScrollableResults<Tuple> results, Class<T> destination, Consumer<? super T> action) {
+        return forEach(results, destination, null, 0, action);
+    }
+
+    /**
+     * Map the results of a tuple query into a single reused destination object, passed to the action for each row.
+     * Results are scrolled forward only with the given JDBC fetch size, and the session persistence context is
+     * cleared every {@code clearInterval} rows (never if not positive). Returns the number of rows.
+     */
+    public static <T> long forEach(TypedQuery<Tuple> query, Class<T> destination, int fetchSize, int clearInterval, Consumer<? super T> action) {
+        var hibernateQuery = prepare(query, fetchSize);
+        return forEach(hibernateQuery.scroll(ScrollMode.FORWARD_ONLY), destination, hibernateQuery.getSession(), clearInterval, action);
+    }
+
+    /**
+     * Map the results of a tuple query through the {@link TupleProjectionCache}. The result is keyed by the query
+     * string, the parameter values, the result window and the destination, and is dropped when any of the given
+     * entity types changes. Executes and maps the query directly if the cache isn't enabled.
+     */
+    public static <T> List<T> cached(TypedQuery<Tuple> query, Class<T> destination, Class<?>... entities) {
+        if (!TupleProjectionCache.isEnabled()) {
+            return map(query.getResultList(), destination);
+        }
+        var parameters = new TreeMap<String, Object>();
+        for (var parameter : query.getParameters()) {
+            //Values passed straight to the criteria builder have neither a name nor a position
+            var name = nonNull(parameter.getName()) ? parameter.getName() : nonNull(parameter.getPosition()) ? "?" + parameter.getPosition() : "#" + parameters.size();
+            parameters.put(name, query.getParameterValue(parameter));
+        }
+        var key = new ArrayList<>();
+        parameters.forEach((name, value) -> {
+            key.add(name);
+            key.add(value);
+        });
+        key.add(query.getFirstResult());
+        key.add(query.getMaxResults());
+        return TupleProjectionCache.get(queryKey(query), key, destination,
+                Arrays.stream(entities).map(Class::getName).toList(), () -> map(query.getResultList(), destination));
+    }
+
+    /**
+     * Query string the cached results are keyed by. Criteria queries all share a placeholder query string, so their
+     * statement is rendered to HQL instead, with the values bound through the criteria builder inlined.
+     */
+    protected static String queryKey(TypedQuery<?> query) {
+        var hibernateQuery = query.unwrap(Query.class);
+        if (hibernateQuery instanceof CacheabilityInfluencers influencers && !(influencers.getQueryStringCacheKey() instanceof String)
+                && hibernateQuery instanceof SqmQuery<?> sqm) {
+            return sqm.getSqmStatement().toHqlString();
+        }
+        return hibernateQuery.getQueryString();
+    }
+
+    /**
+     * Counts per enum value from a {@code select value, count(*) ... group by value} query
+     */
+    public static <T extends CodeEnum> CodeEnumHistogram<T> histogram(TypedQuery<Tuple> query, Class<T> type) {
+        return CodeEnumHistogram.of(query.getResultList(), type);
+    }
+
+    /**
+     * Fill columnar buffers from scrollable results. Closes the results.
+     */
+    public static TupleColumns columns(ScrollableResults<Tuple> results, TupleColumns columns) {
+        return columns(results, null, 0, columns);
+    }
+
+    /**
+     * Fill columnar buffers from the results of a tuple query, scrolled forward only with the given JDBC fetch size.
+     * The session persistence context is cleared every {@code clearInterval} rows (never if not positive).
+     */
+    public static TupleColumns columns(TypedQuery<Tuple> query, int fetchSize, int clearInterval, TupleColumns columns) {
+        var hibernateQuery = prepare(query, fetchSize);
+        return columns(hibernateQuery.scroll(ScrollMode.FORWARD_ONLY), hibernateQuery.getSession(), clearInterval, columns);
+    }
+
+    /**
+     * Execute a native query on the session connection and map the rows by column label. The mapping plan is cached
+     * per SQL string, see {@link NativeRowMapper}. Parameters are bound by position.
+     */
+    public static <T> List<T> nativeQuery(SharedSessionContract session, String sql, Class<T> destination, Object... parameters) {
+        return session.doReturningWork(connection -> {
+            try (var statement = connection.prepareStatement(sql)) {
+                for (var i = 0; i < parameters.length; i++) {
+                    statement.setObject(i + 1, parameters[i]);
+                }
+                try (var resultSet = statement.executeQuery()) {
+                    return NativeRowMapper.map(sql, resultSet, destination);
+                }
+            }
+        });
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Query<Tuple> prepare(TypedQuery<Tuple> query, int fetchSize) {
+        var result = (Query<Tuple>) query.unwrap(Query.class);
+        if (fetchSize > 0) {
+            result.setFetchSize(fetchSize);
+        }
+        result.setReadOnly(true);
+        return result;
+    }
+
+    private static <T> Stream<T> stream(ScrollableResults<Tuple> results, Class<T> destination, SharedSessionContract session, int clearInterval) {
+        var spliterator = new Spliterators.AbstractSpliterator<T>(Long.MAX_VALUE, Spliterator.ORDERED | Spliterator.NONNULL) {
+            private long rows;
+
+            @Override
+            public boolean tryAdvance(Consumer<? super T> action) {
+                if (!results.next()) {
+                    return false;
+                }
+                action.accept(map(results.get(), destination));
+                clear(session, clearInterval, ++rows);
+                return true;
+            }
+        };
+        return StreamSupport.stream(spliterator, false).onClose(results::close);
+    }
+
+    private static TupleColumns columns(ScrollableResults<Tuple> results, SharedSessionContract session, int clearInterval, TupleColumns columns) {
+        try (results) {
+            var rows = 0L;
+            while (results.next()) {
+                columns.add(results.get());
+                clear(session, clearInterval, ++rows);
+            }
+            return columns;
+        }
+    }
+
+    private static <T> long forEach(ScrollableResults<Tuple> results, Class<T> destination, SharedSessionContract session, int clearInterval, Consumer<? super T> action) {
+        try (results) {
+            if (TupleScalarMapper.isScalar(destination) || TupleConstructorMapper.isApplicable(destination)) {
+                var rows = 0L;
+                while (results.next()) {
+                    action.accept(map(results.get(), destination));
+                    clear(session, clearInterval, ++rows);
+                }
+                return rows;
+            }
+            var metrics = CodeHibernateMonitoring.destinationMetrics(destination);
+            var row = create(destination);
+            Mapping<Object, T> plan = null;
+            List<TupleElement<?>> elements = null;
+            var rows = 0L;
+            while (results.next()) {
+                var tuple = results.get();
+                var start = nonNull(metrics) ? System.nanoTime() : 0L;
+                if (tuple.getElements() != elements) {
+                    elements = tuple.getElements();
+                    plan = plan(tuple, row, true);
+                }
+                var mapped = plan.map(tuple, row);
+                if (nonNull(metrics)) {
+                    metrics.rowsMapped(1, System.nanoTime() - start);
+                }
+                action.accept(mapped);
+                clear(session, clearInterval, ++rows);
+            }
+            return rows;
+        }
+    }
+
+    private static <T> T mapRow(Tuple tuple, Class<T> destination) {
+        if (TupleScalarMapper.isScalar(destination)) {
+            return TupleScalarMapper.map(tuple, destination);
+        }
+        if (TupleConstructorMapper.isApplicable(destination)) {
+            return constructorPlan(tuple, destination).map(tuple);
+        }
+        var row = create(destination);
+        return plan(tuple, row).map(tuple, row);
+    }
+
+    /**
+     * New destination object, through the pre-built definition factory if there is one
+     */
+    private static <T> T create(Class<T> destination) {
+        var definition = TupleMapperDefinitions.find(destination);
+        return nonNull(definition) ? definition.getFactory().get() : CodeFactory.create(destination);
+    }
+
+    private static void clear(SharedSessionContract session, int clearInterval, long rows) {
+        if (clearInterval > 0 && rows % clearInterval == 0 && session instanceof Session s) {
+            s.clear();
+        }
+    }
+
+    /**
+     * Get the cached mapping plan for the tuple shape and destination
+     */
+    protected static <T> Mapping<Object, T> plan(Tuple tuple, T destination) {
+        return plan(tuple, destination, false);
+    }
+
+    /**
+     * Get the cached mapping plan for the tuple shape and destination. Plans for reused destinations also write
+     * the {@code null} values (or the primitive defaults), so nothing is left over from the previous row.
+     * <p>
+     * Destinations with a registered {@link TupleMapperDefinition} are mapped without reflection, the rest with
+     * the reflective {@link TupleMapperExecutor}.
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T> Mapping<Object, T> plan(Tuple tuple, T destination, boolean reuse) {
+        var cls = (Class<T>) destination.getClass();
+        return TupleMapperPlans.get(tuple, cls, reuse, t -> {
+            var definition = TupleMapperDefinitions.find(cls);
+            return nonNull(definition) ?
+                    new TupleDefinitionMapper<>(t, definition, reuse) :
+                    new TupleMapperExecutor<>(t, destination, false, false, MappingStrategy.GETTERS_SETTERS, null, reuse);
         });
+    }
 
+    /**
+     * Get the cached constructor plan for the tuple shape and record (or all-args class) destination
+     */
+    @SuppressWarnings("unchecked")
+    protected static <T> TupleConstructorMapper<T> constructorPlan(Tuple tuple, Class<T> destination) {
+        return TupleMapperPlans.get(tuple, destination, t -> new TupleConstructorMapper<>(t, destination));
     }
 
     protected static class TupleMapperExecutor<T> extends MapperExecutor<T> {
 
-        private final Tuple tuple;
+        private static final String WITHER = "?!?wither?!?";
+
+        private final List<TupleElement<?>> elements;
+        private final boolean reuse;
 
         public TupleMapperExecutor(Object source, T destination, boolean convert, boolean producer, MappingStrategy strategy, Object key) {
+            this(source, destination, convert, producer, strategy, key, false);
+        }
+
+        public TupleMapperExecutor(Object source, T destination, boolean convert, boolean producer, MappingStrategy strategy, Object key, boolean reuse) {
             super(source, destination, convert, producer, strategy, key);
-            tuple = (Tuple) source;
+            this.reuse = reuse;
+            elements = ((Tuple) source).getElements();
             build();
         }
 
         protected void build() {
-            if (nonNull(tuple)) {
+            if (nonNull(elements)) {
                 var accessors = new LinkedHashMap<String, TriFunction>();
 
                 buildTupleMatcher(accessors);
@@ -81,10 +498,34 @@ public class CodeHibernate {
 
         }
 
+        /**
+         * The {@code null} value, or the default value for primitive types
+         */
+        private static Object emptyValue(Class<?> type) {
+            return type.isPrimitive() ? Array.get(Array.newInstance(type, 1), 0) : null;
+        }
+
+        /**
+         * Tuple positions by alias, resolved once per plan
+         */
+        private Map<String, Integer> positions() {
+            var result = new LinkedHashMap<String, Integer>();
+            for (var i = 0; i < elements.size(); i++) {
+                var alias = elements.get(i).getAlias();
+                if (nonNull(alias)) {
+                    result.putIfAbsent(alias, i);
+                }
+            }
+            return result;
+        }
+
+        private Function<Object, Object> conversion(String alias, int position, Class<?> destType) {
+            return TupleMapperConversions.column(alias, elements.get(position).getJavaType(), destType, destination);
+        }
+
         @SuppressWarnings("unchecked")
         private void matchTupleSetters(Map<String, TriFunction> accessors, Class<T> destination) {
-            var getters = tuple.getElements().stream()
-                    .collect(Collectors.toMap(TupleElement::getAlias, v -> (Supplier) () -> tuple.get(v.getAlias())));
+            var positions = positions();
             var setters = Arrays.stream(destination.getMethods())
                     .filter(Reflection::isSetter)
                     .filter(m -> Modifier.isPublic(m.getModifiers()))
@@ -92,26 +533,29 @@ public class CodeHibernate {
                     .collect(Collectors.toMap(k -> getFieldName(k.getName()), v -> v, (n1, n2) -> n1));
 
             if (!setters.isEmpty()) {
-                for (var entry : getters.entrySet()) {
+                for (var entry : positions.entrySet()) {
                     if (!accessors.containsKey(entry.getKey())) {
                         var setter = setters.get(entry.getKey());
-                        var getter = entry.getValue();
+                        int position = entry.getValue();
                         if (nonNull(setter)) {
                             var name = entry.getKey();
                             var destType = setter.getParameterTypes()[0];
+                            var conversion = conversion(name, position, destType);
+                            if (isNull(conversion)) {
+                                continue;
+                            }
+                            var set = TupleMapperAccessors.setter(setter);
+                            if (isNull(set)) {
+                                continue;
+                            }
+                            var empty = emptyValue(destType);
                             accessors.put(name, (s, d, w) -> {
-                                try {
-                                    var value = getter.get();
-
-                                    if (nonNull(value)) {
-                                        if (destType.isAssignableFrom(value.getClass())) {
-                                            setter.invoke(d, value);
-                                        } else {
-                                            setter.invoke(d, Mapper.convert(value, destType));
-                                        }
-                                    }
-                                } catch (Exception e) {
-                                    //Do nothing
+                                var value = ((Tuple) s).get(position);
+
+                                if (nonNull(value)) {
+                                    set.accept(d, conversion.apply(value));
+                                } else if (reuse) {
+                                    set.accept(d, empty);
                                 }
                                 return d;
                             });
@@ -125,64 +569,69 @@ public class CodeHibernate {
         }
 
         private void matchTupleWithers(Map<String, TriFunction> accessors, Class<T> destination) {
-            try {
-                var wither = destination.getDeclaredMethod("with");
-                wither.setAccessible(true);
-                var witherAdded = false;
-
-                var getters = tuple.getElements().stream()
-                        .collect(Collectors.toMap(TupleElement::getAlias, v -> (Supplier) () -> tuple.get(v.getAlias())));
-                var withers = Arrays.stream(wither.getReturnType().getMethods())
-                        .filter(m -> Modifier.isPublic(m.getModifiers()))
-                        .filter(m -> m.getParameterCount() == 1)
-                        .filter(this::shouldNotSkip)
-                        .collect(Collectors.toMap(Method::getName, v -> v));
-
-                if (!withers.isEmpty()) {
-                    for (var entry : getters.entrySet()) {
-                        if (!accessors.containsKey(entry.getKey())) {
-                            var setter = withers.get(entry.getKey());
-                            var getter = entry.getValue();
-                            if (nonNull(setter)) {
-                                var name = entry.getKey();
-
-                                var destType = setter.getParameterTypes()[0];
-                                if (!witherAdded) {
-                                    addWither(accessors, wither);
-                                    witherAdded = true;
-                                }
-                                accessors.put(name, (s, d, w) -> {
-                                    try {
-                                        var value = getter.get();
-
-                                        if (nonNull(value)) {
-                                            if (destType.isAssignableFrom(value.getClass())) {
-                                                setter.invoke(w, value);
-                                            } else {
-                                                setter.invoke(w, Mapper.convert(value, destType));
-                                            }
-                                        }
-                                    } catch (Exception e) {
-                                        //Do nothing
-                                    }
-                                    return d;
-                                });
+            var wither = Arrays.stream(destination.getDeclaredMethods())
+                    .filter(m -> "with".equals(m.getName()))
+                    .filter(m -> m.getParameterCount() == 0)
+                    .findFirst()
+                    .filter(Method::trySetAccessible)
+                    .orElse(null);
+            var with = isNull(wither) ? null : TupleMapperAccessors.getter(wither);
+            if (isNull(with)) {
+                return;
+            }
+            var witherAdded = false;
+
+            var positions = positions();
+            var withers = Arrays.stream(wither.getReturnType().getMethods())
+                    .filter(m -> Modifier.isPublic(m.getModifiers()))
+                    .filter(m -> m.getParameterCount() == 1)
+                    .filter(this::shouldNotSkip)
+                    .collect(Collectors.toMap(Method::getName, v -> v, (n1, n2) -> n1));
+
+            if (!withers.isEmpty()) {
+                for (var entry : positions.entrySet()) {
+                    if (!accessors.containsKey(entry.getKey())) {
+                        var setter = withers.get(entry.getKey());
+                        int position = entry.getValue();
+                        if (nonNull(setter)) {
+                            var name = entry.getKey();
+
+                            var destType = setter.getParameterTypes()[0];
+                            var conversion = conversion(name, position, destType);
+                            if (isNull(conversion)) {
+                                continue;
                             }
+                            var set = TupleMapperAccessors.setter(setter);
+                            if (isNull(set)) {
+                                continue;
+                            }
+                            if (!witherAdded) {
+                                accessors.put(WITHER, (s, d, w) -> new WitherHolder(with.apply(d)));
+                                witherAdded = true;
+                            }
+                            var empty = emptyValue(destType);
+                            accessors.put(name, (s, d, w) -> {
+                                var value = ((Tuple) s).get(position);
+
+                                if (nonNull(value)) {
+                                    set.accept(w, conversion.apply(value));
+                                } else if (reuse) {
+                                    set.accept(w, empty);
+                                }
+                                return d;
+                            });
                         }
                     }
                 }
+            }
 
-                if (!Object.class.equals(destination.getSuperclass())) {
-                    matchGettersWithers(accessors, source, destination.getSuperclass());
-                }
-            } catch (Exception e) {
-                //Do nothing
+            if (!Object.class.equals(destination.getSuperclass())) {
+                matchGettersWithers(accessors, source, destination.getSuperclass());
             }
         }
 
         private void matchTupleModifier(Map<String, TriFunction> accessors, Class<T> destination) {
-            var getters = tuple.getElements().stream()
-                    .collect(Collectors.toMap(TupleElement::getAlias, v -> (Supplier) () -> tuple.get(v.getAlias())));
+            var positions = positions();
             var withers = Arrays.stream(destination.getMethods())
                     .filter(m -> m.getParameterCount() == 1)
                     .filter(m -> m.getReturnType().isInterface())
@@ -191,26 +640,29 @@ public class CodeHibernate {
                     .collect(Collectors.toMap(Method::getName, v -> v));
 
             if (!withers.isEmpty()) {
-                for (var entry : getters.entrySet()) {
+                for (var entry : positions.entrySet()) {
                     if (!accessors.containsKey(entry.getKey())) {
                         var setter = withers.get(entry.getKey());
-                        var getter = entry.getValue();
+                        int position = entry.getValue();
                         if (nonNull(setter)) {
                             var name = entry.getKey();
                             var destType = setter.getParameterTypes()[0];
+                            var conversion = conversion(name, position, destType);
+                            if (isNull(conversion)) {
+                                continue;
+                            }
+                            var set = TupleMapperAccessors.setter(setter);
+                            if (isNull(set)) {
+                                continue;
+                            }
+                            var empty = emptyValue(destType);
                             accessors.put(name, (s, d, w) -> {
-                                try {
-                                    var value = getter.get();
-
-                                    if (nonNull(value)) {
-                                        if (destType.isAssignableFrom(value.getClass())) {
-                                            setter.invoke(d, value);
-                                        } else {
-                                            setter.invoke(d, Mapper.convert(value, destType));
-                                        }
-                                    }
-                                } catch (Exception e) {
-                                    //Do nothing
+                                var value = ((Tuple) s).get(position);
+
+                                if (nonNull(value)) {
+                                    set.accept(d, conversion.apply(value));
+                                } else if (reuse) {
+                                    set.accept(d, empty);
                                 }
                                 return d;
                             });
@@ -224,6 +676,37 @@ public class CodeHibernate {
         }
     }
 
+    protected static class MapTask extends RecursiveAction {
+
+        private final List<Tuple> tuples;
+        private final Function<Tuple, ?> mapper;
+        private final Object[] result;
+        private final int from;
+        private final int to;
+        private final int chunk;
+
+        protected MapTask(List<Tuple> tuples, Function<Tuple, ?> mapper, Object[] result, int from, int to, int chunk) {
+            this.tuples = tuples;
+            this.mapper = mapper;
+            this.result = result;
+            this.from = from;
+            this.to = to;
+            this.chunk = chunk;
+        }
+
+        @Override
+        protected void compute() {
+            if (to - from <= chunk) {
+                mapRange(tuples, mapper, result, from, to);
+            } else {
+                var middle = (from + to) >>> 1;
+                invokeAll(new MapTask(tuples, mapper, result, from, middle, chunk),
+                        new MapTask(tuples, mapper, result, middle, to, chunk));
+            }
+        }
+
+    }
+
     private CodeHibernate() {
         //Do nothing
     }
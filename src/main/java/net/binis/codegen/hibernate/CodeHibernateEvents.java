@@ -0,0 +1,96 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Java Flight Recorder events of the module, recorded only while a recording with the events enabled is running.
+ */
+public final class CodeHibernateEvents {
+
+    public static final String CATEGORY = "CodeGen Hibernate";
+
+    @Name("net.binis.codegen.hibernate.TupleMapperPlan")
+    @Label("Tuple Mapper Plan")
+    @Category(CATEGORY)
+    @Description("Construction of a tuple mapping plan")
+    public static class PlanEvent extends Event {
+
+        @Label("Destination")
+        public Class<?> destination;
+
+        @Label("Aliases")
+        @Description("Number of tuple elements, 0 for native query plans (their tuple plan is recorded on its own)")
+        public int aliases;
+
+        @Label("Plan")
+        public String plan;
+
+    }
+
+    @Name("net.binis.codegen.hibernate.TupleMapperBatch")
+    @Label("Tuple Mapper Batch")
+    @Category(CATEGORY)
+    @Description("Mapping of a list of tuples")
+    public static class BatchEvent extends Event {
+
+        @Label("Destination")
+        public Class<?> destination;
+
+        @Label("Rows")
+        public int rows;
+
+        @Label("Parallel")
+        public boolean parallel;
+
+    }
+
+    @Name("net.binis.codegen.hibernate.CodeEnumTypeConfiguration")
+    @Label("CodeEnum Type Configuration")
+    @Category(CATEGORY)
+    @Description("Resolution of the CodeEnumType parameters")
+    public static class EnumTypeEvent extends Event {
+
+        @Label("Enum Class")
+        public Class<?> enumClass;
+
+        @Label("Attribute")
+        public String attribute;
+
+        @Label("JDBC Type")
+        public String jdbcType;
+
+        @Label("Conversion")
+        @Description("CODE, ORDINAL or NAMED")
+        public String conversion;
+
+    }
+
+    private CodeHibernateEvents() {
+        //Do nothing
+    }
+
+}
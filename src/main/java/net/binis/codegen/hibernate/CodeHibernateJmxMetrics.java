@@ -0,0 +1,335 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+
+import javax.management.Attribute;
+import javax.management.AttributeList;
+import javax.management.AttributeNotFoundException;
+import javax.management.DynamicMBean;
+import javax.management.JMException;
+import javax.management.MBeanAttributeInfo;
+import javax.management.MBeanInfo;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Default metrics, exposed as read-only MBeans under the {@value #DOMAIN} domain:
+ * <ul>
+ *     <li>{@code type=CodeEnum,name=<enum class>} - conversions, unknown values and the hits, misses and overflows
+ *     of the unknown values cache</li>
+ *     <li>{@code type=CodeEnumType,name=<entity.attribute>} - binds and extracts</li>
+ *     <li>{@code type=TupleMapperPlans,name=<destination class>} - plan builds, build time, hits and misses</li>
+ *     <li>{@code type=TupleMapping,name=<destination class>} - rows mapped and mapping time</li>
+ * </ul>
+ * The MBean of a key is registered on first use and all of them are unregistered on {@link #close()}.
+ */
+@Slf4j
+public class CodeHibernateJmxMetrics implements CodeHibernateMetrics {
+
+    public static final String DOMAIN = "net.binis.codegen.hibernate";
+
+    private static final String[] ENUM = {"Conversions", "UnknownValues", "UnknownHits", "UnknownMisses", "UnknownOverflows"};
+    private static final String[] ENUM_TYPE = {"Binds", "Extracts"};
+    private static final String[] PLANS = {"Builds", "BuildTimeNanos", "Hits", "Misses"};
+    private static final String[] MAPPING = {"Rows", "TimeNanos"};
+
+    private final MBeanServer server;
+    private final Map<Key, Counters> counters = new ConcurrentHashMap<>();
+
+    public CodeHibernateJmxMetrics() {
+        this(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public CodeHibernateJmxMetrics(MBeanServer server) {
+        this.server = server;
+    }
+
+    @Override
+    public void enumConverted(Class<?> type) {
+        counters("CodeEnum", type.getName(), ENUM).add(0, 1);
+    }
+
+    @Override
+    public void enumUnknown(Class<?> type) {
+        counters("CodeEnum", type.getName(), ENUM).add(1, 1);
+    }
+
+    @Override
+    public void enumUnknownHit(Class<?> type) {
+        counters("CodeEnum", type.getName(), ENUM).add(2, 1);
+    }
+
+    @Override
+    public void enumUnknownMiss(Class<?> type) {
+        counters("CodeEnum", type.getName(), ENUM).add(3, 1);
+    }
+
+    @Override
+    public void enumUnknownOverflow(Class<?> type) {
+        counters("CodeEnum", type.getName(), ENUM).add(4, 1);
+    }
+
+    @Override
+    public void enumBound(String attribute) {
+        counters("CodeEnumType", attribute, ENUM_TYPE).add(0, 1);
+    }
+
+    @Override
+    public void enumExtracted(String attribute) {
+        counters("CodeEnumType", attribute, ENUM_TYPE).add(1, 1);
+    }
+
+    @Override
+    public void planBuilt(Class<?> destination, long nanos) {
+        var plans = counters("TupleMapperPlans", destination.getName(), PLANS);
+        plans.add(0, 1);
+        plans.add(1, nanos);
+    }
+
+    @Override
+    public void planHit(Class<?> destination) {
+        counters("TupleMapperPlans", destination.getName(), PLANS).add(2, 1);
+    }
+
+    @Override
+    public void planMiss(Class<?> destination) {
+        counters("TupleMapperPlans", destination.getName(), PLANS).add(3, 1);
+    }
+
+    @Override
+    public void rowsMapped(Class<?> destination, long rows, long nanos) {
+        var mapping = counters("TupleMapping", destination.getName(), MAPPING);
+        mapping.add(0, rows);
+        mapping.add(1, nanos);
+    }
+
+    @Override
+    public EnumMetrics enumMetrics(Class<?> type) {
+        var enums = counters("CodeEnum", type.getName(), ENUM);
+        return new EnumMetrics() {
+            @Override
+            public void converted() {
+                enums.add(0, 1);
+            }
+
+            @Override
+            public void unknown() {
+                enums.add(1, 1);
+            }
+
+            @Override
+            public void unknownHit() {
+                enums.add(2, 1);
+            }
+
+            @Override
+            public void unknownMiss() {
+                enums.add(3, 1);
+            }
+
+            @Override
+            public void unknownOverflow() {
+                enums.add(4, 1);
+            }
+        };
+    }
+
+    @Override
+    public AttributeMetrics attributeMetrics(String attribute) {
+        var types = counters("CodeEnumType", attribute, ENUM_TYPE);
+        return new AttributeMetrics() {
+            @Override
+            public void bound() {
+                types.add(0, 1);
+            }
+
+            @Override
+            public void extracted() {
+                types.add(1, 1);
+            }
+        };
+    }
+
+    @Override
+    public DestinationMetrics destinationMetrics(Class<?> destination) {
+        var plans = counters("TupleMapperPlans", destination.getName(), PLANS);
+        var mapping = counters("TupleMapping", destination.getName(), MAPPING);
+        return new DestinationMetrics() {
+            @Override
+            public void planBuilt(long nanos) {
+                plans.add(0, 1);
+                plans.add(1, nanos);
+            }
+
+            @Override
+            public void planHit() {
+                plans.add(2, 1);
+            }
+
+            @Override
+            public void planMiss() {
+                plans.add(3, 1);
+            }
+
+            @Override
+            public void rowsMapped(long rows, long nanos) {
+                mapping.add(0, rows);
+                mapping.add(1, nanos);
+            }
+        };
+    }
+
+    /**
+     * Current value of a counter, 0 if it was never updated
+     */
+    public long get(String type, String name, String attribute) {
+        var result = counters.get(new Key(type, name));
+        return isNull(result) ? 0L : result.get(attribute);
+    }
+
+    @Override
+    public void close() {
+        counters.values().forEach(c -> {
+            try {
+                if (server.isRegistered(c.name)) {
+                    server.unregisterMBean(c.name);
+                }
+            } catch (JMException e) {
+                log.debug("Unable to unregister {}!", c.name, e);
+            }
+        });
+        counters.clear();
+    }
+
+    private Counters counters(String type, String name, String[] attributes) {
+        var result = counters.get(new Key(type, name));
+        return nonNull(result) ? result : counters.computeIfAbsent(new Key(type, name), k -> register(k, attributes));
+    }
+
+    private Counters register(Key key, String[] attributes) {
+        ObjectName name;
+        try {
+            name = new ObjectName(DOMAIN + ":type=" + key.type + ",name=" + ObjectName.quote(key.name));
+        } catch (JMException e) {
+            throw new IllegalArgumentException(e);
+        }
+        var result = new Counters(name, attributes);
+        try {
+            server.registerMBean(result, name);
+        } catch (JMException e) {
+            log.debug("Unable to register {}!", name, e);
+        }
+        return result;
+    }
+
+    private record Key(String type, String name) {
+    }
+
+    protected static class Counters implements DynamicMBean {
+
+        private final ObjectName name;
+        private final String[] attributes;
+        private final LongAdder[] values;
+        private final MBeanInfo info;
+
+        protected Counters(ObjectName name, String[] attributes) {
+            this.name = name;
+            this.attributes = attributes;
+            values = new LongAdder[attributes.length];
+            var infos = new MBeanAttributeInfo[attributes.length];
+            for (var i = 0; i < attributes.length; i++) {
+                values[i] = new LongAdder();
+                infos[i] = new MBeanAttributeInfo(attributes[i], long.class.getName(), attributes[i], true, false, false);
+            }
+            info = new MBeanInfo(getClass().getName(), "CodeHibernate metrics", infos, null, null, null);
+        }
+
+        protected void add(int index, long value) {
+            values[index].add(value);
+        }
+
+        protected long get(String attribute) {
+            var index = index(attribute);
+            return index < 0 ? 0L : values[index].sum();
+        }
+
+        private int index(String attribute) {
+            for (var i = 0; i < attributes.length; i++) {
+                if (attributes[i].equals(attribute)) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+
+        @Override
+        public Object getAttribute(String attribute) throws AttributeNotFoundException {
+            var index = index(attribute);
+            if (index < 0) {
+                throw new AttributeNotFoundException(attribute);
+            }
+            return values[index].sum();
+        }
+
+        @Override
+        public void setAttribute(Attribute attribute) throws AttributeNotFoundException {
+            throw new AttributeNotFoundException("Read only attribute: " + attribute.getName());
+        }
+
+        @Override
+        public AttributeList getAttributes(String[] names) {
+            var result = new AttributeList();
+            for (var attribute : names) {
+                var index = index(attribute);
+                if (index >= 0) {
+                    result.add(new Attribute(attribute, values[index].sum()));
+                }
+            }
+            return result;
+        }
+
+        @Override
+        public AttributeList setAttributes(AttributeList attributes) {
+            return new AttributeList();
+        }
+
+        @Override
+        public Object invoke(String actionName, Object[] params, String[] signature) {
+            throw new UnsupportedOperationException(actionName);
+        }
+
+        @Override
+        public MBeanInfo getMBeanInfo() {
+            return info;
+        }
+
+    }
+
+}
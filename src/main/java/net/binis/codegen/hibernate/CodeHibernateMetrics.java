@@ -0,0 +1,210 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+/**
+ * Service provider interface for the runtime metrics of enum conversion and tuple mapping. The active implementation
+ * is installed through {@link CodeHibernateMonitoring}, nothing is called while monitoring is disabled.
+ * <p>
+ * Methods are called on the mapping threads and must not block.
+ */
+public interface CodeHibernateMetrics extends AutoCloseable {
+
+    /**
+     * A value of the enum type was converted from or into its relational form by {@link CodeEnumCodec} or
+     * {@link CodeEnumJavaType}
+     */
+    default void enumConverted(Class<?> type) {
+    }
+
+    /**
+     * A relational value didn't match any value of the enum type and was resolved as an unknown value
+     */
+    default void enumUnknown(Class<?> type) {
+    }
+
+    /**
+     * An unknown value created before was resolved again by {@link CodeEnumUnknownValues}
+     */
+    default void enumUnknownHit(Class<?> type) {
+    }
+
+    /**
+     * A new unknown value was created by {@link CodeEnumUnknownValues}
+     */
+    default void enumUnknownMiss(Class<?> type) {
+    }
+
+    /**
+     * The size limit of {@link CodeEnumUnknownValues} was reached and the shared unknown value was returned
+     */
+    default void enumUnknownOverflow(Class<?> type) {
+    }
+
+    /**
+     * A value was bound to a statement by the {@link CodeEnumType} of the attribute
+     */
+    default void enumBound(String attribute) {
+    }
+
+    /**
+     * A value was extracted from a result set by the {@link CodeEnumType} of the attribute
+     */
+    default void enumExtracted(String attribute) {
+    }
+
+    /**
+     * A tuple mapping plan was built
+     */
+    default void planBuilt(Class<?> destination, long nanos) {
+    }
+
+    default void planHit(Class<?> destination) {
+    }
+
+    default void planMiss(Class<?> destination) {
+    }
+
+    /**
+     * Rows were mapped into destination objects
+     */
+    default void rowsMapped(Class<?> destination, long rows, long nanos) {
+    }
+
+    /**
+     * Metrics of an enum type, resolved once and kept by the instrumented code while these metrics are active
+     */
+    default EnumMetrics enumMetrics(Class<?> type) {
+        return new EnumMetrics() {
+            @Override
+            public void converted() {
+                enumConverted(type);
+            }
+
+            @Override
+            public void unknown() {
+                enumUnknown(type);
+            }
+
+            @Override
+            public void unknownHit() {
+                enumUnknownHit(type);
+            }
+
+            @Override
+            public void unknownMiss() {
+                enumUnknownMiss(type);
+            }
+
+            @Override
+            public void unknownOverflow() {
+                enumUnknownOverflow(type);
+            }
+        };
+    }
+
+    /**
+     * Metrics of a {@link CodeEnumType} attribute, resolved once and kept by the type while these metrics are active
+     */
+    default AttributeMetrics attributeMetrics(String attribute) {
+        return new AttributeMetrics() {
+            @Override
+            public void bound() {
+                enumBound(attribute);
+            }
+
+            @Override
+            public void extracted() {
+                enumExtracted(attribute);
+            }
+        };
+    }
+
+    /**
+     * Metrics of a tuple mapping destination, resolved once and kept by the instrumented code while these metrics
+     * are active
+     */
+    default DestinationMetrics destinationMetrics(Class<?> destination) {
+        return new DestinationMetrics() {
+            @Override
+            public void planBuilt(long nanos) {
+                CodeHibernateMetrics.this.planBuilt(destination, nanos);
+            }
+
+            @Override
+            public void planHit() {
+                CodeHibernateMetrics.this.planHit(destination);
+            }
+
+            @Override
+            public void planMiss() {
+                CodeHibernateMetrics.this.planMiss(destination);
+            }
+
+            @Override
+            public void rowsMapped(long rows, long nanos) {
+                CodeHibernateMetrics.this.rowsMapped(destination, rows, nanos);
+            }
+        };
+    }
+
+    /**
+     * Called when the metrics are replaced or monitoring is disabled
+     */
+    @Override
+    default void close() {
+    }
+
+    interface EnumMetrics {
+
+        void converted();
+
+        void unknown();
+
+        void unknownHit();
+
+        void unknownMiss();
+
+        void unknownOverflow();
+
+    }
+
+    interface AttributeMetrics {
+
+        void bound();
+
+        void extracted();
+
+    }
+
+    interface DestinationMetrics {
+
+        void planBuilt(long nanos);
+
+        void planHit();
+
+        void planMiss();
+
+        void rowsMapped(long rows, long nanos);
+
+    }
+
+}
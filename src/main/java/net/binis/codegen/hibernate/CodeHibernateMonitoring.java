@@ -0,0 +1,156 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Holder of the active {@link CodeHibernateMetrics}. Monitoring is disabled by default, the instrumented code then
+ * only reads a single volatile field. {@link #enable()} installs the first {@link CodeHibernateMetrics} service, or
+ * the {@link CodeHibernateJmxMetrics} if there is none. Setting the {@value #PROPERTY} system property to
+ * {@code true} enables monitoring on startup.
+ */
+@Slf4j
+public class CodeHibernateMonitoring {
+
+    public static final String PROPERTY = "net.binis.codegen.hibernate.metrics";
+
+    private static volatile CodeHibernateMetrics metrics;
+
+    private static final ClassValue<Resolved<CodeHibernateMetrics.EnumMetrics>> enums = new ClassValue<>() {
+        @Override
+        protected Resolved<CodeHibernateMetrics.EnumMetrics> computeValue(Class<?> type) {
+            return new Resolved<>(m -> m.enumMetrics(type));
+        }
+    };
+
+    private static final ClassValue<Resolved<CodeHibernateMetrics.DestinationMetrics>> destinations = new ClassValue<>() {
+        @Override
+        protected Resolved<CodeHibernateMetrics.DestinationMetrics> computeValue(Class<?> type) {
+            return new Resolved<>(m -> m.destinationMetrics(type));
+        }
+    };
+
+    static {
+        if (Boolean.getBoolean(PROPERTY)) {
+            enable();
+        }
+    }
+
+    public static boolean isEnabled() {
+        return nonNull(metrics);
+    }
+
+    /**
+     * Enable monitoring with the first {@link CodeHibernateMetrics} service, or the JMX metrics
+     */
+    public static void enable() {
+        CodeHibernateMetrics result = null;
+        try {
+            result = ServiceLoader.load(CodeHibernateMetrics.class, CodeHibernateMonitoring.class.getClassLoader()).findFirst().orElse(null);
+        } catch (ServiceConfigurationError e) {
+            log.warn("Unable to load metrics provider!", e);
+        }
+        setMetrics(nonNull(result) ? result : new CodeHibernateJmxMetrics());
+    }
+
+    public static void disable() {
+        setMetrics(null);
+    }
+
+    /**
+     * Install the metrics, {@code null} disables monitoring. The previous metrics are closed.
+     */
+    public static synchronized void setMetrics(CodeHibernateMetrics metrics) {
+        var previous = CodeHibernateMonitoring.metrics;
+        CodeHibernateMonitoring.metrics = metrics;
+        if (nonNull(previous) && previous != metrics) {
+            previous.close();
+        }
+    }
+
+    /**
+     * The active metrics, {@code null} if monitoring is disabled
+     */
+    public static CodeHibernateMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * The active metrics of an enum type, {@code null} if monitoring is disabled
+     */
+    public static CodeHibernateMetrics.EnumMetrics enumMetrics(Class<?> type) {
+        return isNull(metrics) ? null : enums.get(type).get();
+    }
+
+    /**
+     * The active metrics of a tuple mapping destination, {@code null} if monitoring is disabled
+     */
+    public static CodeHibernateMetrics.DestinationMetrics destinationMetrics(Class<?> destination) {
+        return isNull(metrics) ? null : destinations.get(destination).get();
+    }
+
+    /**
+     * Metrics of a single key, resolved once for the active {@link CodeHibernateMetrics} and again when they are
+     * replaced
+     */
+    public static class Resolved<T> {
+
+        private final Function<CodeHibernateMetrics, T> resolver;
+        private volatile Bound<T> bound;
+
+        public Resolved(Function<CodeHibernateMetrics, T> resolver) {
+            this.resolver = resolver;
+        }
+
+        /**
+         * The resolved metrics, {@code null} if monitoring is disabled
+         */
+        public T get() {
+            var active = metrics;
+            if (isNull(active)) {
+                return null;
+            }
+            var current = bound;
+            if (isNull(current) || current.metrics != active) {
+                current = new Bound<>(active, resolver.apply(active));
+                bound = current;
+            }
+            return current.value;
+        }
+
+    }
+
+    private record Bound<T>(CodeHibernateMetrics metrics, T value) {
+    }
+
+    private CodeHibernateMonitoring() {
+        //Do nothing
+    }
+
+}
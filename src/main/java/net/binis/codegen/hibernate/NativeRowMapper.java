@@ -0,0 +1,182 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.tools.Reflection;
+
+import java.beans.ConstructorProperties;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Maps native query rows ({@code Object[]} in column order) to destination objects by column label.
+ * <p>
+ * Labels are matched to the destination properties ignoring case and underscores, so {@code TEST_ENUM} maps to
+ * {@code testEnum}. The rows go through the same plans as the tuple mapping, so CodeEnum columns are decoded from
+ * their ordinals or names through {@link CodeEnumJavaType}. Plans are cached per SQL string and destination class.
+ */
+public class NativeRowMapper<T> {
+
+    private final Class<T> destination;
+    private final TupleMapperTransformer.RowTuple template;
+    private final Function<Tuple, T> mapper;
+    private final int columns;
+
+    public NativeRowMapper(String[] labels, Class<T> destination) {
+        this.destination = destination;
+        columns = labels.length;
+        template = new TupleMapperTransformer.RowTuple(names(labels, destination));
+        //Native columns have no declared type, the conversions are resolved by the value types
+        template.setRow(new Object[columns]);
+        mapper = CodeHibernate.rowMapper(template, destination);
+    }
+
+    /**
+     * Map the remaining rows of a result set, using the plan cached for the SQL string
+     */
+    public static <T> List<T> map(String sql, ResultSet resultSet, Class<T> destination) throws SQLException {
+        var metaData = resultSet.getMetaData();
+        NativeRowMapper<T> plan = TupleMapperPlans.get(sql, destination, () -> {
+            try {
+                return new NativeRowMapper<>(labels(metaData), destination);
+            } catch (SQLException e) {
+                throw new MapperException(e);
+            }
+        });
+        return plan.map(resultSet);
+    }
+
+    public static String[] labels(ResultSetMetaData metaData) throws SQLException {
+        var result = new String[metaData.getColumnCount()];
+        for (var i = 0; i < result.length; i++) {
+            result[i] = metaData.getColumnLabel(i + 1);
+        }
+        return result;
+    }
+
+    public Class<T> getDestination() {
+        return destination;
+    }
+
+    /**
+     * Map the remaining rows of a result set
+     */
+    public List<T> map(ResultSet resultSet) throws SQLException {
+        var view = new TupleMapperTransformer.RowTuple(template);
+        var row = new Object[columns];
+        view.setRow(row);
+        var result = new ArrayList<T>();
+        var metrics = CodeHibernateMonitoring.destinationMetrics(destination);
+        var elapsed = 0L;
+        while (resultSet.next()) {
+            for (var i = 0; i < columns; i++) {
+                row[i] = resultSet.getObject(i + 1);
+            }
+            if (isNull(metrics)) {
+                result.add(mapper.apply(view));
+            } else {
+                var start = System.nanoTime();
+                result.add(mapper.apply(view));
+                elapsed += System.nanoTime() - start;
+            }
+        }
+        if (nonNull(metrics)) {
+            metrics.rowsMapped(result.size(), elapsed);
+        }
+        return result;
+    }
+
+    /**
+     * Row mapping function for the calling thread. Values are read out of the row during the call, so the caller
+     * can reuse the array.
+     */
+    public Function<Object[], T> rows() {
+        var view = new TupleMapperTransformer.RowTuple(template);
+        return row -> {
+            view.setRow(row);
+            var metrics = CodeHibernateMonitoring.destinationMetrics(destination);
+            if (isNull(metrics)) {
+                return mapper.apply(view);
+            }
+            var start = System.nanoTime();
+            var result = mapper.apply(view);
+            metrics.rowsMapped(1, System.nanoTime() - start);
+            return result;
+        };
+    }
+
+    protected static String[] names(String[] labels, Class<?> destination) {
+        var names = new HashMap<String, String>();
+        for (var name : properties(destination)) {
+            names.putIfAbsent(normalize(name), name);
+        }
+        return Arrays.stream(labels).map(label -> nonNull(label) ? names.getOrDefault(normalize(label), label) : null).toArray(String[]::new);
+    }
+
+    private static Set<String> properties(Class<?> destination) {
+        var result = new LinkedHashSet<String>();
+        if (destination.isRecord()) {
+            Arrays.stream(destination.getRecordComponents()).map(RecordComponent::getName).forEach(result::add);
+        }
+        var definition = TupleMapperDefinitions.find(destination);
+        if (nonNull(definition)) {
+            result.addAll(definition.getProperties().keySet());
+        }
+        for (var constructor : destination.getConstructors()) {
+            var properties = constructor.getAnnotation(ConstructorProperties.class);
+            if (nonNull(properties)) {
+                result.addAll(Arrays.asList(properties.value()));
+            } else if (constructor.getParameterCount() > 0 && constructor.getParameters()[0].isNamePresent()) {
+                Arrays.stream(constructor.getParameters()).map(Parameter::getName).forEach(result::add);
+            }
+        }
+        for (var method : destination.getMethods()) {
+            if (Reflection.isSetter(method)) {
+                result.add(Character.toLowerCase(method.getName().charAt(3)) + method.getName().substring(4));
+            }
+        }
+        for (var cls = destination; nonNull(cls) && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+            Arrays.stream(cls.getDeclaredFields()).forEach(f -> result.add(f.getName()));
+        }
+        return result;
+    }
+
+    private static String normalize(String name) {
+        return name.replace("_", "").toLowerCase(Locale.ROOT);
+    }
+
+}
@@ -0,0 +1,509 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Column oriented projection buffers, filled from tuples without creating an object per row.
+ * <p>
+ * CodeEnum columns are kept as {@code short} ordinals (decoded with the {@link CodeEnumJavaType} codec of the enum
+ * on demand, values with wider ordinals go to a side table), UUIDs as two {@code long} values and numbers as primitives. Values are stored in fixed size chunks, so
+ * growing a column never copies the rows already added.
+ * <pre>
+ * var columns = new TupleColumns()
+ *         .uuid("id")
+ *         .codeEnum("testEnum", TestEnum.class)
+ *         .longs("count");
+ * CodeHibernate.columns(query, 1000, 10_000, columns);
+ * TupleColumns.EnumColumn&lt;TestEnum&gt; enums = columns.column("testEnum");
+ * </pre>
+ */
+@SuppressWarnings("unchecked")
+public class TupleColumns {
+
+    protected static final int CHUNK_SHIFT = 14;
+    protected static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    protected static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    private final Map<String, Column> columns = new LinkedHashMap<>();
+    private List<TupleElement<?>> elements;
+    private Column[] order;
+    private int[] positions;
+    private int size;
+
+    public TupleColumns uuid(String alias) {
+        return add(new UuidColumn(alias));
+    }
+
+    public <T extends CodeEnum> TupleColumns codeEnum(String alias, Class<T> type) {
+        return add(new EnumColumn<>(alias, type));
+    }
+
+    public TupleColumns longs(String alias) {
+        return add(new LongColumn(alias));
+    }
+
+    public TupleColumns ints(String alias) {
+        return add(new IntColumn(alias));
+    }
+
+    public TupleColumns doubles(String alias) {
+        return add(new DoubleColumn(alias));
+    }
+
+    public <T> TupleColumns objects(String alias, Class<T> type) {
+        return add(new ObjectColumn<>(alias, type));
+    }
+
+    protected TupleColumns add(Column column) {
+        if (size > 0) {
+            throw new IllegalStateException("Columns can't be added after the first row!");
+        }
+        columns.put(column.getAlias(), column);
+        elements = null;
+        return this;
+    }
+
+    public <C extends Column> C column(String alias) {
+        var result = columns.get(alias);
+        if (isNull(result)) {
+            throw new IllegalArgumentException("Unknown column: " + alias);
+        }
+        return (C) result;
+    }
+
+    public Map<String, Column> getColumns() {
+        return Collections.unmodifiableMap(columns);
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void add(Tuple tuple) {
+        if (tuple.getElements() != elements) {
+            resolve(tuple.getElements());
+        }
+        for (var i = 0; i < order.length; i++) {
+            order[i].add(size, tuple.get(positions[i]));
+        }
+        size++;
+    }
+
+    public TupleColumns addAll(Iterable<Tuple> tuples) {
+        for (var tuple : tuples) {
+            add(tuple);
+        }
+        return this;
+    }
+
+    private void resolve(List<TupleElement<?>> elements) {
+        var aliases = new LinkedHashMap<String, Integer>();
+        for (var i = 0; i < elements.size(); i++) {
+            var alias = elements.get(i).getAlias();
+            if (nonNull(alias)) {
+                aliases.putIfAbsent(alias, i);
+            }
+        }
+        order = columns.values().toArray(Column[]::new);
+        positions = new int[order.length];
+        for (var i = 0; i < order.length; i++) {
+            var position = aliases.get(order[i].getAlias());
+            if (isNull(position)) {
+                throw new MapperException("Tuple has no element for column " + order[i].getAlias() + "!");
+            }
+            positions[i] = position;
+        }
+        this.elements = elements;
+    }
+
+    public abstract static class Column {
+
+        protected final String alias;
+        protected int size;
+        private int chunks;
+        private BitSet nulls;
+
+        protected Column(String alias) {
+            this.alias = alias;
+        }
+
+        public String getAlias() {
+            return alias;
+        }
+
+        public int size() {
+            return size;
+        }
+
+        public boolean isNull(int row) {
+            return nonNull(nulls) && nulls.get(row);
+        }
+
+        protected void add(int row, Object value) {
+            var chunk = row >>> CHUNK_SHIFT;
+            if (chunk >= chunks) {
+                allocate(chunk);
+                chunks = chunk + 1;
+            }
+            if (java.util.Objects.isNull(value)) {
+                if (java.util.Objects.isNull(nulls)) {
+                    nulls = new BitSet();
+                }
+                nulls.set(row);
+            } else {
+                set(row >>> CHUNK_SHIFT, row & CHUNK_MASK, value);
+            }
+            size = row + 1;
+        }
+
+        protected abstract void allocate(int chunk);
+
+        protected abstract void set(int chunk, int index, Object value);
+
+        protected static <A> A[] grow(A[] data, int chunk) {
+            return chunk < data.length ? data : Arrays.copyOf(data, Math.max(data.length * 2, chunk + 1));
+        }
+
+        protected void checkRow(int row) {
+            if (row < 0 || row >= size) {
+                throw new IndexOutOfBoundsException("Row " + row + " out of " + size + "!");
+            }
+        }
+
+    }
+
+    public static class LongColumn extends Column {
+
+        private long[][] data = new long[4][];
+
+        protected LongColumn(String alias) {
+            super(alias);
+        }
+
+        @Override
+        protected void allocate(int chunk) {
+            data = grow(data, chunk);
+            data[chunk] = new long[CHUNK_SIZE];
+        }
+
+        @Override
+        protected void set(int chunk, int index, Object value) {
+            data[chunk][index] = ((Number) value).longValue();
+        }
+
+        /**
+         * Value of the row, {@code 0} for {@code null}
+         */
+        public long get(int row) {
+            checkRow(row);
+            return data[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+        }
+
+        public long[] toArray() {
+            var result = new long[size];
+            for (var i = 0; i < size; i += CHUNK_SIZE) {
+                System.arraycopy(data[i >>> CHUNK_SHIFT], 0, result, i, Math.min(CHUNK_SIZE, size - i));
+            }
+            return result;
+        }
+
+    }
+
+    public static class IntColumn extends Column {
+
+        private int[][] data = new int[4][];
+
+        protected IntColumn(String alias) {
+            super(alias);
+        }
+
+        @Override
+        protected void allocate(int chunk) {
+            data = grow(data, chunk);
+            data[chunk] = new int[CHUNK_SIZE];
+        }
+
+        @Override
+        protected void set(int chunk, int index, Object value) {
+            data[chunk][index] = ((Number) value).intValue();
+        }
+
+        /**
+         * Value of the row, {@code 0} for {@code null}
+         */
+        public int get(int row) {
+            checkRow(row);
+            return data[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+        }
+
+        public int[] toArray() {
+            var result = new int[size];
+            for (var i = 0; i < size; i += CHUNK_SIZE) {
+                System.arraycopy(data[i >>> CHUNK_SHIFT], 0, result, i, Math.min(CHUNK_SIZE, size - i));
+            }
+            return result;
+        }
+
+    }
+
+    public static class DoubleColumn extends Column {
+
+        private double[][] data = new double[4][];
+
+        protected DoubleColumn(String alias) {
+            super(alias);
+        }
+
+        @Override
+        protected void allocate(int chunk) {
+            data = grow(data, chunk);
+            data[chunk] = new double[CHUNK_SIZE];
+        }
+
+        @Override
+        protected void set(int chunk, int index, Object value) {
+            data[chunk][index] = ((Number) value).doubleValue();
+        }
+
+        /**
+         * Value of the row, {@code 0} for {@code null}
+         */
+        public double get(int row) {
+            checkRow(row);
+            return data[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+        }
+
+        public double[] toArray() {
+            var result = new double[size];
+            for (var i = 0; i < size; i += CHUNK_SIZE) {
+                System.arraycopy(data[i >>> CHUNK_SHIFT], 0, result, i, Math.min(CHUNK_SIZE, size - i));
+            }
+            return result;
+        }
+
+    }
+
+    public static class UuidColumn extends Column {
+
+        private final Function<Object, Object> converter = TupleMapperConversions.converter(null, UUID.class);
+        private long[][] most = new long[4][];
+        private long[][] least = new long[4][];
+
+        protected UuidColumn(String alias) {
+            super(alias);
+        }
+
+        @Override
+        protected void allocate(int chunk) {
+            most = grow(most, chunk);
+            least = grow(least, chunk);
+            most[chunk] = new long[CHUNK_SIZE];
+            least[chunk] = new long[CHUNK_SIZE];
+        }
+
+        @Override
+        protected void set(int chunk, int index, Object value) {
+            var uuid = value instanceof UUID u ? u : (UUID) converter.apply(value);
+            most[chunk][index] = uuid.getMostSignificantBits();
+            least[chunk][index] = uuid.getLeastSignificantBits();
+        }
+
+        public long getMostSignificantBits(int row) {
+            checkRow(row);
+            return most[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+        }
+
+        public long getLeastSignificantBits(int row) {
+            checkRow(row);
+            return least[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+        }
+
+        public UUID get(int row) {
+            return isNull(row) ? null : new UUID(getMostSignificantBits(row), getLeastSignificantBits(row));
+        }
+
+        /**
+         * Most and least significant bits, interleaved
+         */
+        public long[] toArray() {
+            var result = new long[size * 2];
+            for (var i = 0; i < size; i++) {
+                result[i * 2] = most[i >>> CHUNK_SHIFT][i & CHUNK_MASK];
+                result[i * 2 + 1] = least[i >>> CHUNK_SHIFT][i & CHUNK_MASK];
+            }
+            return result;
+        }
+
+    }
+
+    public static class EnumColumn<T extends CodeEnum> extends Column {
+
+        private final Class<T> type;
+        private final CodeEnumCodec<T> codec;
+        private short[][] data = new short[4][];
+        private Map<Integer, T> wide;
+
+        protected EnumColumn(String alias, Class<T> type) {
+            super(alias);
+            this.type = type;
+            codec = TupleMapperConversions.codec(type);
+        }
+
+        public Class<T> getType() {
+            return type;
+        }
+
+        @Override
+        protected void allocate(int chunk) {
+            data = grow(data, chunk);
+            data[chunk] = new short[CHUNK_SIZE];
+        }
+
+        @Override
+        protected void set(int chunk, int index, Object value) {
+            T resolved = null;
+            int ordinal;
+            if (value instanceof CodeEnum e) {
+                resolved = (T) e;
+                ordinal = e.ordinal();
+            } else if (value instanceof Number n) {
+                ordinal = n.intValue();
+            } else {
+                resolved = codec.fromName(value.toString());
+                ordinal = resolved.ordinal();
+            }
+            if (ordinal != (short) ordinal) {
+                if (java.util.Objects.isNull(wide)) {
+                    wide = new HashMap<>();
+                }
+                wide.put((chunk << CHUNK_SHIFT) | index, nonNull(resolved) ? resolved : codec.fromOrdinal(ordinal));
+                ordinal = Short.MIN_VALUE;
+            }
+            data[chunk][index] = (short) ordinal;
+        }
+
+        /**
+         * Ordinal of the row, {@code 0} for {@code null} and {@link Short#MIN_VALUE} for values kept in the side table
+         */
+        public short getOrdinal(int row) {
+            checkRow(row);
+            return data[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+        }
+
+        /**
+         * Check if the value of the row has an ordinal outside the {@code short} range (like unknown ordinals or values
+         * created for unknown names), the value is kept in a side table then
+         */
+        public boolean isWide(int row) {
+            checkRow(row);
+            return nonNull(wide) && wide.containsKey(row);
+        }
+
+        public T get(int row) {
+            if (isNull(row)) {
+                return null;
+            }
+            if (nonNull(wide)) {
+                var result = wide.get(row);
+                if (nonNull(result)) {
+                    return result;
+                }
+            }
+            return codec.fromOrdinal(getOrdinal(row));
+        }
+
+        public short[] toArray() {
+            var result = new short[size];
+            for (var i = 0; i < size; i += CHUNK_SIZE) {
+                System.arraycopy(data[i >>> CHUNK_SHIFT], 0, result, i, Math.min(CHUNK_SIZE, size - i));
+            }
+            return result;
+        }
+
+        /**
+         * Decode all rows. Unknown ordinals are resolved through the unknown value handling of the enum type.
+         */
+        public List<T> values() {
+            var result = new ArrayList<T>(size);
+            for (var i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+    }
+
+    public static class ObjectColumn<T> extends Column {
+
+        private final Function<Object, Object> converter;
+        private Object[][] data = new Object[4][];
+
+        protected ObjectColumn(String alias, Class<T> type) {
+            super(alias);
+            converter = TupleMapperConversions.converter(null, type);
+        }
+
+        @Override
+        protected void allocate(int chunk) {
+            data = grow(data, chunk);
+            data[chunk] = new Object[CHUNK_SIZE];
+        }
+
+        @Override
+        protected void set(int chunk, int index, Object value) {
+            data[chunk][index] = converter.apply(value);
+        }
+
+        public T get(int row) {
+            checkRow(row);
+            return (T) data[row >>> CHUNK_SHIFT][row & CHUNK_MASK];
+        }
+
+        public List<T> values() {
+            var result = new ArrayList<T>(size);
+            for (var i = 0; i < size; i++) {
+                result.add(get(i));
+            }
+            return result;
+        }
+
+    }
+
+}
@@ -0,0 +1,243 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import net.binis.codegen.exception.MapperException;
+
+import java.beans.ConstructorProperties;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Array;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Tuple mapping plan for immutable destinations: records and classes with all-args constructors only.
+ * <p>
+ * The constructor is chosen once per plan by matching the tuple aliases to the parameter names (record components,
+ * {@link ConstructorProperties} or names compiled with {@code -parameters}). When the names aren't available the
+ * parameters are matched by position. Parameters without matching column, or with a column whose declared type can't
+ * be converted, get {@code null} (or the primitive default).
+ * Each row is then built with a single constructor invocation.
+ */
+@SuppressWarnings("unchecked")
+public class TupleConstructorMapper<T> {
+
+    private static final MethodType SPREAD = MethodType.methodType(Object.class, Object[].class);
+
+    private static final ClassValue<Boolean> applicable = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            if (type.isRecord()) {
+                return true;
+            }
+            if (type.isInterface() || type.isPrimitive() || type.isArray() || Modifier.isAbstract(type.getModifiers()) || isPlatform(type)) {
+                return false;
+            }
+            var constructors = type.getConstructors();
+            return constructors.length > 0 && Arrays.stream(constructors).noneMatch(c -> c.getParameterCount() == 0);
+        }
+    };
+
+    private final Class<T> destination;
+    private final MethodHandle constructor;
+    private final int[] positions;
+    private final Function<Object, Object>[] conversions;
+    private final Object[] empty;
+
+    public TupleConstructorMapper(Tuple tuple, Class<T> destination) {
+        this.destination = destination;
+        var elements = tuple.getElements();
+        var aliases = new HashMap<String, Integer>();
+        for (var i = 0; i < elements.size(); i++) {
+            var alias = elements.get(i).getAlias();
+            if (nonNull(alias)) {
+                aliases.putIfAbsent(alias, i);
+            }
+        }
+
+        var match = destination.isRecord() ? matchRecord(destination, aliases) : matchConstructor(destination, aliases, elements.size());
+
+        var types = match.constructor.getParameterTypes();
+        positions = match.positions;
+        conversions = new Function[types.length];
+        empty = new Object[types.length];
+        for (var i = 0; i < types.length; i++) {
+            empty[i] = types[i].isPrimitive() ? Array.get(Array.newInstance(types[i], 1), 0) : null;
+            if (positions[i] >= 0) {
+                var element = elements.get(positions[i]);
+                conversions[i] = TupleMapperConversions.column(nonNull(element.getAlias()) ? element.getAlias() : "#" + positions[i], element.getJavaType(), types[i], destination);
+                if (isNull(conversions[i])) {
+                    positions[i] = -1;
+                }
+            }
+        }
+        constructor = unreflect(match.constructor).asSpreader(Object[].class, types.length).asType(SPREAD);
+    }
+
+    /**
+     * Whether the destination type is a record or an application class that can only be created through a
+     * constructor with arguments
+     */
+    public static boolean isApplicable(Class<?> destination) {
+        return applicable.get(destination);
+    }
+
+    public Class<T> getDestination() {
+        return destination;
+    }
+
+    public T map(Tuple tuple) {
+        var args = new Object[positions.length];
+        for (var i = 0; i < positions.length; i++) {
+            var position = positions[i];
+            var value = position >= 0 ? tuple.get(position) : null;
+            args[i] = isNull(value) ? empty[i] : conversions[i].apply(value);
+        }
+        try {
+            return (T) constructor.invokeExact(args);
+        } catch (RuntimeException | Error e) {
+            throw e;
+        } catch (Throwable e) {
+            throw new MapperException("Unable to create " + destination.getName() + "!", e instanceof Exception ex ? ex : new Exception(e));
+        }
+    }
+
+    private static Match matchRecord(Class<?> destination, Map<String, Integer> aliases) {
+        var components = destination.getRecordComponents();
+        var types = Arrays.stream(components).map(RecordComponent::getType).toArray(Class[]::new);
+        Constructor<?> constructor;
+        try {
+            constructor = destination.getDeclaredConstructor(types);
+        } catch (NoSuchMethodException e) {
+            throw new MapperException("Unable to find canonical constructor of " + destination.getName() + "!", e);
+        }
+        var positions = positions(Arrays.stream(components).map(RecordComponent::getName).toArray(String[]::new), aliases);
+        if (matched(positions) == 0) {
+            throw new MapperException("No component of " + destination.getName() + " matches tuple aliases " + aliases.keySet() + "!");
+        }
+        return new Match(constructor, positions);
+    }
+
+    /**
+     * The constructor with the most parameters matched by alias, and of those the one with the fewest parameters left
+     * unmatched. Without named parameters the single constructor taking all columns by position. Fails if no
+     * constructor or more than one qualifies, as the order of {@link Class#getConstructors()} is unspecified.
+     */
+    private static Match matchConstructor(Class<?> destination, Map<String, Integer> aliases, int columns) {
+        var named = new ArrayList<Match>();
+        var positional = new ArrayList<Match>();
+        for (var constructor : destination.getConstructors()) {
+            var names = names(constructor);
+            if (nonNull(names)) {
+                var match = new Match(constructor, positions(names, aliases));
+                if (matched(match.positions) > 0) {
+                    named.add(match);
+                }
+            } else if (constructor.getParameterCount() == columns) {
+                var positions = new int[columns];
+                Arrays.setAll(positions, i -> i);
+                positional.add(new Match(constructor, positions));
+            }
+        }
+        if (!named.isEmpty()) {
+            var order = Comparator.<Match>comparingInt(m -> matched(m.positions)).thenComparingInt(m -> -m.constructor.getParameterCount());
+            var best = Collections.max(named, order);
+            named.removeIf(m -> order.compare(m, best) < 0);
+        }
+
+        var candidates = named.isEmpty() ? positional : named;
+        if (candidates.isEmpty()) {
+            throw new MapperException("No constructor of " + destination.getName() + " matches tuple aliases " + aliases.keySet() + "!");
+        }
+        if (candidates.size() > 1) {
+            throw new MapperException("Ambiguous constructors of " + destination.getName() + " for tuple aliases " + aliases.keySet() + ": " + candidates.stream().map(m -> m.constructor.toString()).toList() + "!");
+        }
+        return candidates.get(0);
+    }
+
+    private static int matched(int[] positions) {
+        var result = 0;
+        for (var position : positions) {
+            if (position >= 0) {
+                result++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * JDK value types (like {@code BigDecimal}) are not tuple destinations, even though they have constructors only
+     */
+    private static boolean isPlatform(Class<?> type) {
+        var loader = type.getClassLoader();
+        return isNull(loader) || loader == ClassLoader.getPlatformClassLoader();
+    }
+
+    private static String[] names(Constructor<?> constructor) {
+        var properties = constructor.getAnnotation(ConstructorProperties.class);
+        if (nonNull(properties)) {
+            return properties.value();
+        }
+        var parameters = constructor.getParameters();
+        if (parameters.length > 0 && parameters[0].isNamePresent()) {
+            return Arrays.stream(parameters).map(Parameter::getName).toArray(String[]::new);
+        }
+        return null;
+    }
+
+    private static int[] positions(String[] names, Map<String, Integer> aliases) {
+        var result = new int[names.length];
+        for (var i = 0; i < names.length; i++) {
+            result[i] = aliases.getOrDefault(names[i], -1);
+        }
+        return result;
+    }
+
+    private static MethodHandle unreflect(Constructor<?> constructor) {
+        try {
+            if (!Modifier.isPublic(constructor.getModifiers()) || !Modifier.isPublic(constructor.getDeclaringClass().getModifiers())) {
+                constructor.setAccessible(true);
+            }
+            return MethodHandles.lookup().unreflectConstructor(constructor);
+        } catch (Exception e) {
+            throw new MapperException("Unable to access constructor of " + constructor.getDeclaringClass().getName() + "!", e);
+        }
+    }
+
+    private record Match(Constructor<?> constructor, int[] positions) {
+    }
+
+}
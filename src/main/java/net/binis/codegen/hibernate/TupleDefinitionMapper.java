@@ -0,0 +1,109 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import net.binis.codegen.map.Mapping;
+import net.binis.codegen.map.MappingStrategy;
+
+import java.lang.reflect.Array;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Tuple mapping plan built from a {@link TupleMapperDefinition}. The tuple columns are matched to the definition
+ * properties once, and each row is mapped with direct setter calls only.
+ */
+@SuppressWarnings("unchecked")
+public class TupleDefinitionMapper<T> implements Mapping<Object, T> {
+
+    private final TupleMapperDefinition<T> definition;
+    private final boolean reuse;
+    private final int[] positions;
+    private final BiConsumer<Object, Object>[] setters;
+    private final Function<Object, Object>[] conversions;
+    private final Object[] empty;
+
+    public TupleDefinitionMapper(Tuple tuple, TupleMapperDefinition<T> definition, boolean reuse) {
+        this.definition = definition;
+        this.reuse = reuse;
+        var elements = tuple.getElements();
+        var properties = definition.getProperties();
+        var aliases = new HashSet<String>();
+        var matched = new ArrayList<Integer>();
+        var converters = new ArrayList<Function<Object, Object>>();
+        for (var i = 0; i < elements.size(); i++) {
+            var alias = elements.get(i).getAlias();
+            if (nonNull(alias) && properties.containsKey(alias) && aliases.add(alias)) {
+                var conversion = TupleMapperConversions.column(alias, elements.get(i).getJavaType(), properties.get(alias).type(), definition.getDestination());
+                if (nonNull(conversion)) {
+                    matched.add(i);
+                    converters.add(conversion);
+                }
+            }
+        }
+
+        positions = matched.stream().mapToInt(Integer::intValue).toArray();
+        setters = new BiConsumer[positions.length];
+        conversions = converters.toArray(Function[]::new);
+        empty = new Object[positions.length];
+        for (var i = 0; i < positions.length; i++) {
+            var property = properties.get(elements.get(positions[i]).getAlias());
+            setters[i] = (BiConsumer<Object, Object>) property.setter();
+            empty[i] = property.type().isPrimitive() ? Array.get(Array.newInstance(property.type(), 1), 0) : null;
+        }
+    }
+
+    @Override
+    public Class<Object> getSource() {
+        return (Class) Tuple.class;
+    }
+
+    @Override
+    public Class<T> getDestination() {
+        return definition.getDestination();
+    }
+
+    @Override
+    public T map(Object source, T destination) {
+        var tuple = (Tuple) source;
+        var result = nonNull(destination) ? destination : definition.getFactory().get();
+        for (var i = 0; i < positions.length; i++) {
+            var value = tuple.get(positions[i]);
+            if (nonNull(value)) {
+                setters[i].accept(result, conversions[i].apply(value));
+            } else if (reuse) {
+                setters[i].accept(result, empty[i]);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public MappingStrategy getStrategy() {
+        return MappingStrategy.GETTERS_SETTERS;
+    }
+
+}
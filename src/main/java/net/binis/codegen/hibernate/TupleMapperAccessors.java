@@ -0,0 +1,158 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.exception.MapperException;
+
+import java.lang.invoke.LambdaMetafactory;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Turns the setter, wither and modifier methods matched by the tuple mapper into functional accessors.
+ * <p>
+ * Accessors are spun with {@link LambdaMetafactory}, so the call site is a plain interface call that the JIT can
+ * inline, and primitive parameters are unboxed by the generated class. Lambdas for classes that aren't visible from
+ * this class loader (e.g. DTOs of a child class loader) are spun through a private lookup in the declaring class,
+ * so the generated class resolves them from the right loader. When the metafactory can't link the method the
+ * accessor falls back to an adapted {@link MethodHandle}. Methods that can't be accessed at all give no accessor, so
+ * the mapper skips their column.
+ */
+@Slf4j
+@SuppressWarnings("unchecked")
+public class TupleMapperAccessors {
+
+    private static final MethodHandles.Lookup lookup = MethodHandles.lookup();
+
+    private static final MethodType BI_CONSUMER = MethodType.methodType(BiConsumer.class);
+    private static final MethodType BI_CONSUMER_ERASED = MethodType.methodType(void.class, Object.class, Object.class);
+    private static final MethodType FUNCTION = MethodType.methodType(Function.class);
+    private static final MethodType FUNCTION_ERASED = MethodType.methodType(Object.class, Object.class);
+
+    /**
+     * Single argument instance method as {@code (target, value) -> target.method(value)}, ignoring the result,
+     * {@code null} if the method isn't accessible
+     */
+    public static BiConsumer<Object, Object> setter(Method method) {
+        var handle = unreflect(method);
+        if (isNull(handle)) {
+            return null;
+        }
+        try {
+            var type = handle.type();
+            var instantiated = MethodType.methodType(void.class, type.parameterType(0), type.wrap().parameterType(1));
+            var site = LambdaMetafactory.metafactory(lookup(method), "accept", BI_CONSUMER, BI_CONSUMER_ERASED, handle, instantiated);
+            return (BiConsumer<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            log.debug("Unable to spin setter for {}, using method handle!", method, e);
+            var adapted = handle.asType(BI_CONSUMER_ERASED);
+            return (target, value) -> {
+                try {
+                    adapted.invokeExact(target, value);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw failure(ex);
+                }
+            };
+        }
+    }
+
+    /**
+     * No argument instance method as {@code target -> target.method()}, {@code null} if the method isn't accessible
+     */
+    public static Function<Object, Object> getter(Method method) {
+        var handle = unreflect(method);
+        if (isNull(handle)) {
+            return null;
+        }
+        try {
+            var type = handle.type();
+            var instantiated = MethodType.methodType(type.wrap().returnType(), type.parameterType(0));
+            var site = LambdaMetafactory.metafactory(lookup(method), "apply", FUNCTION, FUNCTION_ERASED, handle, instantiated);
+            return (Function<Object, Object>) site.getTarget().invokeExact();
+        } catch (Throwable e) {
+            log.debug("Unable to spin getter for {}, using method handle!", method, e);
+            var adapted = handle.asType(FUNCTION_ERASED);
+            return target -> {
+                try {
+                    return adapted.invokeExact(target);
+                } catch (RuntimeException | Error ex) {
+                    throw ex;
+                } catch (Throwable ex) {
+                    throw failure(ex);
+                }
+            };
+        }
+    }
+
+    private static MapperException failure(Throwable e) {
+        return e instanceof Exception ex ? new MapperException(ex) : new MapperException(new Exception(e));
+    }
+
+    /**
+     * The lookup the lambda is spun with, the generated class is defined in the lookup class loader
+     */
+    private static MethodHandles.Lookup lookup(Method method) throws IllegalAccessException {
+        var cls = method.getDeclaringClass();
+        return isVisible(cls) ? lookup : MethodHandles.privateLookupIn(cls, lookup);
+    }
+
+    private static boolean isVisible(Class<?> cls) {
+        var loader = TupleMapperAccessors.class.getClassLoader();
+        if (isNull(cls.getClassLoader()) || cls.getClassLoader() == loader) {
+            return true;
+        }
+        try {
+            return Class.forName(cls.getName(), false, loader) == cls;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    private static MethodHandle unreflect(Method method) {
+        try {
+            return lookup.unreflect(method);
+        } catch (IllegalAccessException e) {
+            if (method.trySetAccessible()) {
+                try {
+                    return lookup.unreflect(method);
+                } catch (IllegalAccessException ex) {
+                    //Skipped below
+                }
+            }
+            log.warn("Unable to access {}, skipping!", method);
+            return null;
+        }
+    }
+
+    private TupleMapperAccessors() {
+        //Do nothing
+    }
+
+}
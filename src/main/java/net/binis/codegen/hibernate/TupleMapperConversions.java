@@ -0,0 +1,259 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.map.MapperFactory;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+
+import java.nio.ByteBuffer;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Value conversions for tuple columns, resolved once per (column type, destination type) pair.
+ * <p>
+ * Enum destinations are decoded from ordinals or names through the shared {@link CodeEnumCodec} of the enum type,
+ * UUIDs and numbers through direct functions. Anything else goes through the {@link MapperFactory}.
+ * The converters returned by {@link #converter(Class, Class)} remember the last column value class, so a column
+ * is resolved again only if its runtime type changes.
+ */
+@Slf4j
+@SuppressWarnings("unchecked")
+public class TupleMapperConversions {
+
+    private static final Function<Object, Object> IDENTITY = v -> v;
+
+    private static final Map<Pair, Function<Object, Object>> conversions = new ConcurrentHashMap<>();
+
+    private static final ClassValue<CodeEnumCodec<CodeEnum>> codecs = new ClassValue<>() {
+        @Override
+        protected CodeEnumCodec<CodeEnum> computeValue(Class<?> type) {
+            return new CodeEnumCodec<>(new CodeEnumJavaType<>((Class) type), SmallIntJdbcType.INSTANCE);
+        }
+    };
+
+    /**
+     * Get converter for values of a tuple column. The column type is a hint, it can be {@code Object} or {@code null}.
+     */
+    public static Function<Object, Object> converter(Class<?> columnType, Class<?> destination) {
+        return new Converter(destination, isNull(columnType) || Object.class.equals(columnType) ? null : columnType);
+    }
+
+    /**
+     * Check if values of a tuple column can be converted into the destination type. Columns without a declared type
+     * ({@code Object} or {@code null}) can't be checked up front and are always accepted.
+     */
+    public static boolean isConvertible(Class<?> columnType, Class<?> destination) {
+        if (isNull(columnType) || Object.class.equals(columnType)) {
+            return true;
+        }
+        var target = wrap(destination);
+        if (target.isAssignableFrom(columnType) || String.class.equals(target)) {
+            return true;
+        }
+        if (CodeEnum.class.isAssignableFrom(target)) {
+            return Number.class.isAssignableFrom(columnType) || String.class.equals(columnType) || Character.class.equals(columnType) || CodeEnum.class.isAssignableFrom(columnType);
+        }
+        if (UUID.class.equals(target)) {
+            return String.class.equals(columnType) || byte[].class.equals(columnType);
+        }
+        if (nonNull(numberConversion(target)) || Boolean.class.equals(target)) {
+            return Number.class.isAssignableFrom(columnType) || String.class.equals(columnType);
+        }
+        return CodeFactory.create(MapperFactory.class).canMap(columnType, destination);
+    }
+
+    /**
+     * Converter of a tuple column into a destination property, checked once when the mapping plan is built. A column
+     * whose declared type can't be converted is reported and {@code null} is returned, so the plan drops the column
+     * instead of failing on every row. Columns without a declared type are converted by the runtime type of their
+     * values, a value that fails to convert is reported with the row.
+     */
+    public static Function<Object, Object> column(String alias, Class<?> columnType, Class<?> type, Class<?> destination) {
+        if (!isConvertible(columnType, type)) {
+            log.warn("Unable to convert column '{}' ({}) into {} for {}, column skipped!", alias, columnType.getName(), type.getName(), destination.getName());
+            TupleMapperPlans.rejected();
+            return null;
+        }
+
+        var conversion = converter(columnType, type);
+        return value -> {
+            try {
+                return conversion.apply(value);
+            } catch (RuntimeException e) {
+                throw new MapperException("Unable to convert column '" + alias + "' (" + value.getClass().getName() + ") into " + type.getName() + " for " + destination.getName() + "!", e);
+            }
+        };
+    }
+
+    /**
+     * Get the conversion function for a (value type, destination type) pair
+     */
+    public static Function<Object, Object> conversion(Class<?> source, Class<?> destination) {
+        return conversions.computeIfAbsent(new Pair(source, destination), p -> resolve(p.source, p.destination));
+    }
+
+    /**
+     * Shared decoding codec for an enum type
+     */
+    public static <T extends CodeEnum> CodeEnumCodec<T> codec(Class<T> type) {
+        return (CodeEnumCodec<T>) codecs.get(type);
+    }
+
+    protected static Function<Object, Object> resolve(Class<?> source, Class<?> destination) {
+        var target = wrap(destination);
+        if (target.isAssignableFrom(source)) {
+            return IDENTITY;
+        }
+
+        if (CodeEnum.class.isAssignableFrom(target)) {
+            var enumConversion = enumConversion(source, (Class) target);
+            if (nonNull(enumConversion)) {
+                return enumConversion;
+            }
+        }
+
+        if (UUID.class.equals(target)) {
+            if (String.class.equals(source)) {
+                return v -> UUID.fromString((String) v);
+            } else if (byte[].class.equals(source)) {
+                return v -> uuid((byte[]) v);
+            }
+        }
+
+        if (Number.class.isAssignableFrom(source)) {
+            var numberConversion = numberConversion(target);
+            if (nonNull(numberConversion)) {
+                return numberConversion;
+            }
+        }
+
+        if (String.class.equals(target) && CodeEnum.class.isAssignableFrom(source)) {
+            return v -> ((CodeEnum) v).name();
+        }
+
+        var factory = CodeFactory.create(MapperFactory.class);
+        return v -> factory.convert(v, destination);
+    }
+
+    private static Function<Object, Object> enumConversion(Class<?> source, Class<CodeEnum> target) {
+        var codec = codec(target);
+        if (Number.class.isAssignableFrom(source)) {
+            return v -> codec.fromOrdinal(((Number) v).intValue());
+        } else if (String.class.equals(source) || Character.class.equals(source)) {
+            return v -> codec.fromName(v.toString());
+        } else if (CodeEnum.class.isAssignableFrom(source)) {
+            return v -> codec.fromName(((CodeEnum) v).name());
+        }
+        return null;
+    }
+
+    private static Function<Object, Object> numberConversion(Class<?> target) {
+        if (Integer.class.equals(target)) {
+            return v -> ((Number) v).intValue();
+        } else if (Long.class.equals(target)) {
+            return v -> ((Number) v).longValue();
+        } else if (Short.class.equals(target)) {
+            return v -> ((Number) v).shortValue();
+        } else if (Byte.class.equals(target)) {
+            return v -> ((Number) v).byteValue();
+        } else if (Double.class.equals(target)) {
+            return v -> ((Number) v).doubleValue();
+        } else if (Float.class.equals(target)) {
+            return v -> ((Number) v).floatValue();
+        }
+        return null;
+    }
+
+    private static UUID uuid(byte[] bytes) {
+        var buffer = ByteBuffer.wrap(bytes);
+        return new UUID(buffer.getLong(), buffer.getLong());
+    }
+
+    protected static Class<?> wrap(Class<?> type) {
+        if (!type.isPrimitive()) {
+            return type;
+        } else if (int.class.equals(type)) {
+            return Integer.class;
+        } else if (long.class.equals(type)) {
+            return Long.class;
+        } else if (boolean.class.equals(type)) {
+            return Boolean.class;
+        } else if (short.class.equals(type)) {
+            return Short.class;
+        } else if (byte.class.equals(type)) {
+            return Byte.class;
+        } else if (double.class.equals(type)) {
+            return Double.class;
+        } else if (float.class.equals(type)) {
+            return Float.class;
+        } else if (char.class.equals(type)) {
+            return Character.class;
+        }
+        return Void.class;
+    }
+
+    private record Pair(Class<?> source, Class<?> destination) {
+    }
+
+    private static final class Converter implements Function<Object, Object> {
+
+        private final Class<?> destination;
+        private Resolved last;
+
+        private Converter(Class<?> destination, Class<?> columnType) {
+            this.destination = destination;
+            if (nonNull(columnType)) {
+                last = new Resolved(columnType, conversion(columnType, destination));
+            }
+        }
+
+        @Override
+        public Object apply(Object value) {
+            var resolved = last;
+            var cls = value.getClass();
+            if (isNull(resolved) || resolved.source != cls) {
+                //Resolved objects are immutable, racing threads at most resolve twice
+                resolved = new Resolved(cls, conversion(cls, destination));
+                last = resolved;
+            }
+            return resolved.conversion.apply(value);
+        }
+
+    }
+
+    private record Resolved(Class<?> source, Function<Object, Object> conversion) {
+    }
+
+    private TupleMapperConversions() {
+        //Do nothing
+    }
+
+}
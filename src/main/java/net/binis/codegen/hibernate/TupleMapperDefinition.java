@@ -0,0 +1,97 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+
+/**
+ * Reflection free description of a tuple projection type: how to create it and how to set each property.
+ * <p>
+ * Definitions are meant to be generated at build time for the projection types and exposed through a
+ * {@link TupleMapperProvider}, so the first projection query doesn't pay for the reflective plan build.
+ * <pre>
+ * TupleMapperDefinition.builder(TestMapDestinationImpl.class, TestMapDestinationImpl::new)
+ *         .property("id", Long.class, TestMapDestinationImpl::setId)
+ *         .property("testEnum", TestEnum.class, TestMapDestinationImpl::setTestEnum)
+ *         .build();
+ * </pre>
+ */
+public class TupleMapperDefinition<T> {
+
+    private final Class<T> destination;
+    private final Supplier<? extends T> factory;
+    private final Map<String, Property<T, ?>> properties;
+
+    protected TupleMapperDefinition(Class<T> destination, Supplier<? extends T> factory, Map<String, Property<T, ?>> properties) {
+        this.destination = destination;
+        this.factory = factory;
+        this.properties = Collections.unmodifiableMap(properties);
+    }
+
+    public static <T> Builder<T> builder(Class<T> destination, Supplier<? extends T> factory) {
+        return new Builder<>(destination, factory);
+    }
+
+    public Class<T> getDestination() {
+        return destination;
+    }
+
+    public Supplier<? extends T> getFactory() {
+        return factory;
+    }
+
+    /**
+     * Properties by tuple alias
+     */
+    public Map<String, Property<T, ?>> getProperties() {
+        return properties;
+    }
+
+    public record Property<T, V>(Class<V> type, BiConsumer<T, V> setter) {
+    }
+
+    public static class Builder<T> {
+
+        private final Class<T> destination;
+        private final Supplier<? extends T> factory;
+        private final Map<String, Property<T, ?>> properties = new LinkedHashMap<>();
+
+        protected Builder(Class<T> destination, Supplier<? extends T> factory) {
+            this.destination = destination;
+            this.factory = factory;
+        }
+
+        public <V> Builder<T> property(String alias, Class<V> type, BiConsumer<T, V> setter) {
+            properties.put(alias, new Property<>(type, setter));
+            return this;
+        }
+
+        public TupleMapperDefinition<T> build() {
+            return new TupleMapperDefinition<>(destination, factory, new LinkedHashMap<>(properties));
+        }
+
+    }
+
+}
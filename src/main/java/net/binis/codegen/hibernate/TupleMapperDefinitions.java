@@ -0,0 +1,100 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.ServiceConfigurationError;
+import java.util.ServiceLoader;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Registry of pre-built tuple mapper definitions. A definition registered for a class or for any of its interfaces
+ * is used instead of the reflective tuple mapper.
+ */
+@Slf4j
+@SuppressWarnings("unchecked")
+public class TupleMapperDefinitions {
+
+    private static final Map<Class<?>, TupleMapperDefinition<?>> definitions = new ConcurrentHashMap<>();
+    private static final Map<Class<?>, Optional<TupleMapperDefinition<?>>> resolved = new ConcurrentHashMap<>();
+
+    public static void register(TupleMapperDefinition<?> definition) {
+        definitions.put(definition.getDestination(), definition);
+        resolved.clear();
+        TupleMapperPlans.clear();
+    }
+
+    /**
+     * Register the definitions of all {@link TupleMapperProvider} services visible from the class loader
+     */
+    public static void load(ClassLoader loader) {
+        var providers = ServiceLoader.load(TupleMapperProvider.class, loader).iterator();
+        while (true) {
+            try {
+                if (!providers.hasNext()) {
+                    break;
+                }
+                providers.next().definitions().forEach(TupleMapperDefinitions::register);
+            } catch (ServiceConfigurationError e) {
+                log.warn("Unable to load tuple mapper provider!", e);
+            }
+        }
+    }
+
+    /**
+     * Definition for the destination class, or {@code null} if there is none
+     */
+    public static <T> TupleMapperDefinition<T> find(Class<T> destination) {
+        return (TupleMapperDefinition<T>) resolved.computeIfAbsent(destination, c -> Optional.ofNullable(resolve(c))).orElse(null);
+    }
+
+    public static void clear() {
+        definitions.clear();
+        resolved.clear();
+        TupleMapperPlans.clear();
+    }
+
+    private static TupleMapperDefinition<?> resolve(Class<?> destination) {
+        for (var cls = destination; nonNull(cls); cls = cls.getSuperclass()) {
+            var result = definitions.get(cls);
+            if (nonNull(result)) {
+                return result;
+            }
+            for (var intf : cls.getInterfaces()) {
+                result = definitions.get(intf);
+                if (nonNull(result)) {
+                    return result;
+                }
+            }
+        }
+        return null;
+    }
+
+    private TupleMapperDefinitions() {
+        //Do nothing
+    }
+
+}
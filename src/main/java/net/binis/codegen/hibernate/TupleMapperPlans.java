@@ -0,0 +1,256 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Bounded cache of tuple mapping plans, keyed by the tuple aliases and column types, the destination class and
+ * whether the plan maps into reused destination objects. Plans for native query results are keyed by the SQL string
+ * instead and are kept in a separate cache bounded by {@link #getNativeMaxSize()}, so many distinct native queries
+ * don't evict the tuple plans.
+ * <p>
+ * Plans are built once per key and are reused for every row. Consecutive rows of the same query share their
+ * element list, so the last plan used by the current thread is checked by identity before the signature is
+ * computed. Once the cache grows above {@link #getMaxSize()} arbitrary entries are evicted.
+ */
+@SuppressWarnings("unchecked")
+public class TupleMapperPlans {
+
+    public static final int DEFAULT_MAX_SIZE = 256;
+
+    private static final Map<Object, Object> plans = new ConcurrentHashMap<>();
+    private static final Map<Object, Object> nativePlans = new ConcurrentHashMap<>();
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+    private static volatile int nativeMaxSize = DEFAULT_MAX_SIZE;
+    private static final ThreadLocal<Recent> recent = new ThreadLocal<>();
+    private static volatile int generation;
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final LongAdder rejected = new LongAdder();
+
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    public static void setMaxSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Max size must be positive!");
+        }
+        maxSize = size;
+    }
+
+    public static int getNativeMaxSize() {
+        return nativeMaxSize;
+    }
+
+    public static void setNativeMaxSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Max size must be positive!");
+        }
+        nativeMaxSize = size;
+    }
+
+    /**
+     * Get the plan for the tuple shape and destination class, building it if needed
+     */
+    public static <P> P get(Tuple tuple, Class<?> destination, Function<Tuple, P> builder) {
+        return get(tuple, destination, false, builder);
+    }
+
+    /**
+     * Get the plan for the tuple shape, destination class and reuse mode, building it if needed
+     */
+    public static <P> P get(Tuple tuple, Class<?> destination, boolean reuse, Function<Tuple, P> builder) {
+        var elements = tuple.getElements();
+        var last = recent.get();
+        if (nonNull(last) && last.elements == elements && last.destination == destination && last.reuse == reuse && last.generation == generation) {
+            hit(destination);
+            return (P) last.plan;
+        }
+
+        var current = generation;
+        var key = new Key(destination, reuse, signature(elements));
+        var result = plans.get(key);
+        if (isNull(result)) {
+            result = build(destination, elements.size(), () -> builder.apply(tuple));
+            put(plans, maxSize, key, result);
+        } else {
+            hit(destination);
+        }
+        recent.set(new Recent(elements, destination, reuse, current, result));
+        return (P) result;
+    }
+
+    /**
+     * Get the plan for a native query result, keyed by the SQL string and destination class
+     */
+    public static <P> P get(String sql, Class<?> destination, Supplier<P> builder) {
+        var key = new SqlKey(sql, destination);
+        var result = nativePlans.get(key);
+        if (isNull(result)) {
+            result = build(destination, 0, builder);
+            put(nativePlans, nativeMaxSize, key, result);
+        } else {
+            hit(destination);
+        }
+        return (P) result;
+    }
+
+    private static void hit(Class<?> destination) {
+        hits.increment();
+        var metrics = CodeHibernateMonitoring.destinationMetrics(destination);
+        if (nonNull(metrics)) {
+            metrics.planHit();
+        }
+    }
+
+    private static <P> P build(Class<?> destination, int aliases, Supplier<P> builder) {
+        misses.increment();
+        var metrics = CodeHibernateMonitoring.destinationMetrics(destination);
+        var event = new CodeHibernateEvents.PlanEvent();
+        event.begin();
+        if (isNull(metrics)) {
+            var result = builder.get();
+            commit(event, destination, aliases, result);
+            return result;
+        }
+        metrics.planMiss();
+        var start = System.nanoTime();
+        var result = builder.get();
+        metrics.planBuilt(System.nanoTime() - start);
+        commit(event, destination, aliases, result);
+        return result;
+    }
+
+    private static void commit(CodeHibernateEvents.PlanEvent event, Class<?> destination, int aliases, Object plan) {
+        event.end();
+        if (event.shouldCommit()) {
+            event.destination = destination;
+            event.aliases = aliases;
+            event.plan = plan.getClass().getSimpleName();
+            event.commit();
+        }
+    }
+
+    private static Object[] signature(List<TupleElement<?>> elements) {
+        var result = new Object[elements.size() * 2];
+        for (var i = 0; i < elements.size(); i++) {
+            var element = elements.get(i);
+            result[i * 2] = element.getAlias();
+            result[i * 2 + 1] = element.getJavaType();
+        }
+        return result;
+    }
+
+    private static void put(Map<Object, Object> plans, int maxSize, Object key, Object plan) {
+        while (plans.size() >= maxSize) {
+            var it = plans.keySet().iterator();
+            if (!it.hasNext()) {
+                break;
+            }
+            it.next();
+            it.remove();
+            evictions.increment();
+        }
+        plans.put(key, plan);
+    }
+
+    public static int size() {
+        return plans.size();
+    }
+
+    public static int nativeSize() {
+        return nativePlans.size();
+    }
+
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    public static long getEvictions() {
+        return evictions.sum();
+    }
+
+    /**
+     * Count of the columns dropped from plans because they can't be converted into the destination property
+     */
+    public static long getRejectedColumns() {
+        return rejected.sum();
+    }
+
+    protected static void rejected() {
+        rejected.increment();
+    }
+
+    public static synchronized void clear() {
+        generation++;
+        plans.clear();
+        nativePlans.clear();
+        recent.remove();
+    }
+
+    private record Key(Class<?> destination, boolean reuse, Object[] signature) {
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof Key key && destination == key.destination && reuse == key.reuse && Arrays.equals(signature, key.signature);
+        }
+
+        @Override
+        public int hashCode() {
+            return 31 * (31 * destination.hashCode() + Boolean.hashCode(reuse)) + Arrays.hashCode(signature);
+        }
+
+    }
+
+    private record SqlKey(String sql, Class<?> destination) {
+    }
+
+    /**
+     * The last plan used by a thread, valid until the cache is cleared
+     */
+    private record Recent(List<TupleElement<?>> elements, Class<?> destination, boolean reuse, int generation, Object plan) {
+    }
+
+    private TupleMapperPlans() {
+        //Do nothing
+    }
+
+}
@@ -0,0 +1,174 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import org.hibernate.query.TupleTransformer;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+import static java.util.Objects.nonNull;
+
+/**
+ * Hibernate tuple transformer that maps the raw query rows straight into destination objects, using the same cached
+ * plans as the {@link Tuple} mapping.
+ * <p>
+ * Instead of a {@link Tuple} per row, the transformer keeps a single view over the current row array, rebuilt only
+ * when the alias array changes. Use a new transformer for each query, an instance must not be shared between threads.
+ * <pre>
+ * session.createQuery("select e.id as id, e.testEnum as testEnum from TestEnumsEntity e", Object[].class)
+ *         .setTupleTransformer(CodeHibernate.transformer(TestMapDestination.class))
+ *         .getResultList();
+ * </pre>
+ */
+public class TupleMapperTransformer<T> implements TupleTransformer<T> {
+
+    private final Class<T> destination;
+
+    private String[] aliases;
+    private RowTuple view;
+    private Function<Tuple, T> mapper;
+
+    public TupleMapperTransformer(Class<T> destination) {
+        this.destination = destination;
+    }
+
+    @Override
+    public T transformTuple(Object[] row, String[] aliases) {
+        if (aliases != this.aliases) {
+            this.aliases = aliases;
+            view = new RowTuple(aliases);
+            view.row = row;
+            mapper = CodeHibernate.rowMapper(view, destination);
+        } else {
+            view.row = row;
+        }
+        var metrics = CodeHibernateMonitoring.destinationMetrics(destination);
+        if (isNull(metrics)) {
+            return mapper.apply(view);
+        }
+        var start = System.nanoTime();
+        var result = mapper.apply(view);
+        metrics.rowsMapped(1, System.nanoTime() - start);
+        return result;
+    }
+
+    public Class<T> getDestination() {
+        return destination;
+    }
+
+    protected static class RowTuple implements Tuple {
+
+        private final List<TupleElement<?>> elements;
+        private final Map<String, Integer> positions;
+        private Object[] row;
+
+        protected RowTuple(String[] aliases) {
+            var list = new ArrayList<TupleElement<?>>(aliases.length);
+            positions = new HashMap<>();
+            for (var i = 0; i < aliases.length; i++) {
+                list.add(new RowElement(aliases[i]));
+                if (nonNull(aliases[i])) {
+                    positions.putIfAbsent(aliases[i], i);
+                }
+            }
+            elements = List.copyOf(list);
+        }
+
+        /**
+         * View over the same elements, for another thread
+         */
+        protected RowTuple(RowTuple template) {
+            elements = template.elements;
+            positions = template.positions;
+        }
+
+        protected void setRow(Object[] row) {
+            this.row = row;
+        }
+
+        @Override
+        public <X> X get(String alias, Class<X> type) {
+            return type.cast(get(alias));
+        }
+
+        @Override
+        public Object get(String alias) {
+            var position = positions.get(alias);
+            if (isNull(position)) {
+                throw new IllegalArgumentException("Unknown alias: " + alias);
+            }
+            return row[position];
+        }
+
+        @Override
+        public <X> X get(int i, Class<X> type) {
+            return type.cast(row[i]);
+        }
+
+        @Override
+        public Object get(int i) {
+            return row[i];
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public <X> X get(TupleElement<X> tupleElement) {
+            var position = elements.indexOf(tupleElement);
+            if (position < 0) {
+                throw new IllegalArgumentException("Unknown tuple element: " + tupleElement);
+            }
+            return (X) row[position];
+        }
+
+        @Override
+        public Object[] toArray() {
+            return row.clone();
+        }
+
+        @Override
+        public List<TupleElement<?>> getElements() {
+            return elements;
+        }
+
+    }
+
+    private record RowElement(String alias) implements TupleElement<Object> {
+
+        @Override
+        public Class<?> getJavaType() {
+            return Object.class;
+        }
+
+        @Override
+        public String getAlias() {
+            return alias;
+        }
+
+    }
+
+}
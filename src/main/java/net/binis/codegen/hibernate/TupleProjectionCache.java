@@ -0,0 +1,207 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Opt-in cache of mapped projection results, keyed by the query string, the parameter values and the destination.
+ * <p>
+ * Each entry remembers the change generation of the entity types the query reads. The
+ * {@link TupleProjectionCacheListener} bumps the generation on every insert, update and delete of an entity, so the
+ * entries reading it are no longer served. A generation that changes while the query runs keeps the result out of
+ * the cache. Bulk HQL/SQL updates don't fire entity events and aren't seen, the TTL bounds how stale such
+ * results can get.
+ * <p>
+ * Cached results are shared between callers and must be treated as read only.
+ */
+@SuppressWarnings("unchecked")
+public class TupleProjectionCache {
+
+    public static final int DEFAULT_MAX_SIZE = 1024;
+    public static final Duration DEFAULT_TTL = Duration.ofMinutes(1);
+
+    private static final Map<Key, Entry> entries = new ConcurrentHashMap<>();
+    private static final Map<String, AtomicLong> generations = new ConcurrentHashMap<>();
+
+    private static volatile boolean enabled;
+    private static volatile int maxSize = DEFAULT_MAX_SIZE;
+    private static volatile long ttl = DEFAULT_TTL.toNanos();
+
+    private static final LongAdder hits = new LongAdder();
+    private static final LongAdder misses = new LongAdder();
+    private static final LongAdder evictions = new LongAdder();
+    private static final LongAdder invalidations = new LongAdder();
+
+    public static boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * Enable or disable the cache. Disabling it drops all entries.
+     */
+    public static void setEnabled(boolean enabled) {
+        TupleProjectionCache.enabled = enabled;
+        if (!enabled) {
+            entries.clear();
+        }
+    }
+
+    public static int getMaxSize() {
+        return maxSize;
+    }
+
+    public static void setMaxSize(int size) {
+        if (size < 1) {
+            throw new IllegalArgumentException("Max size must be positive!");
+        }
+        maxSize = size;
+    }
+
+    public static Duration getTtl() {
+        return Duration.ofNanos(ttl);
+    }
+
+    public static void setTtl(Duration ttl) {
+        if (ttl.isNegative() || ttl.isZero()) {
+            throw new IllegalArgumentException("TTL must be positive!");
+        }
+        TupleProjectionCache.ttl = ttl.toNanos();
+    }
+
+    /**
+     * Get the cached result, or load and cache it. {@code entities} are the names of the entity types the query
+     * reads, as reported by {@code EntityPersister.getEntityName()}.
+     */
+    public static <T> List<T> get(String query, List<?> parameters, Class<T> destination, Collection<String> entities, Supplier<List<T>> loader) {
+        if (!enabled) {
+            return loader.get();
+        }
+
+        var key = new Key(query, Collections.unmodifiableList(new ArrayList<>(parameters)), destination);
+        var now = System.nanoTime();
+        var entry = entries.get(key);
+        if (nonNull(entry) && now - entry.created < ttl && entry.isCurrent()) {
+            hits.increment();
+            return (List<T>) entry.value;
+        }
+
+        misses.increment();
+        var counters = entities.stream().map(TupleProjectionCache::generation).toArray(AtomicLong[]::new);
+        var snapshot = new long[counters.length];
+        for (var i = 0; i < counters.length; i++) {
+            snapshot[i] = counters[i].get();
+        }
+        var result = Collections.unmodifiableList(new ArrayList<>(loader.get()));
+        entry = new Entry(result, now, counters, snapshot);
+        if (entry.isCurrent()) {
+            put(key, entry);
+        }
+        return result;
+    }
+
+    /**
+     * Drop the results reading the entity type
+     */
+    public static void invalidate(String entity) {
+        if (enabled) {
+            generation(entity).incrementAndGet();
+            invalidations.increment();
+        }
+    }
+
+    public static void clear() {
+        entries.clear();
+    }
+
+    public static int size() {
+        return entries.size();
+    }
+
+    public static long getHits() {
+        return hits.sum();
+    }
+
+    public static long getMisses() {
+        return misses.sum();
+    }
+
+    public static long getEvictions() {
+        return evictions.sum();
+    }
+
+    public static long getInvalidations() {
+        return invalidations.sum();
+    }
+
+    private static AtomicLong generation(String entity) {
+        return generations.computeIfAbsent(entity, e -> new AtomicLong());
+    }
+
+    private static void put(Key key, Entry entry) {
+        if (entries.size() >= maxSize) {
+            var now = System.nanoTime();
+            entries.values().removeIf(e -> now - e.created >= ttl || !e.isCurrent());
+            while (entries.size() >= maxSize) {
+                var it = entries.keySet().iterator();
+                if (!it.hasNext()) {
+                    break;
+                }
+                it.next();
+                it.remove();
+                evictions.increment();
+            }
+        }
+        entries.put(key, entry);
+    }
+
+    private record Key(String query, List<Object> parameters, Class<?> destination) {
+    }
+
+    private record Entry(List<?> value, long created, AtomicLong[] counters, long[] snapshot) {
+
+        boolean isCurrent() {
+            for (var i = 0; i < counters.length; i++) {
+                if (counters[i].get() != snapshot[i]) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+    }
+
+    private TupleProjectionCache() {
+        //Do nothing
+    }
+
+}
@@ -0,0 +1,115 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import static java.util.Objects.nonNull;
+
+/**
+ * Invalidates the {@link TupleProjectionCache} entries reading a changed entity type. It is registered for both the
+ * post and post-commit events, so neither the changing transaction nor the other sessions are served stale results.
+ * The entity type, all its super classes and all the interfaces it implements are invalidated, so the queries can
+ * be registered with generated entity interfaces as well.
+ */
+public class TupleProjectionCacheListener implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final ClassValue<List<String>> types = new ClassValue<>() {
+        @Override
+        protected List<String> computeValue(Class<?> type) {
+            var result = new LinkedHashSet<String>();
+            for (var cls = type; nonNull(cls) && !Object.class.equals(cls); cls = cls.getSuperclass()) {
+                result.add(cls.getName());
+                addInterfaces(cls, result);
+            }
+            return List.copyOf(result);
+        }
+    };
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        invalidate(event.getPersister());
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+        invalidate(event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        invalidate(event.getPersister());
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        invalidate(event.getPersister());
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        invalidate(event.getPersister());
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+        invalidate(event.getPersister());
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return TupleProjectionCache.isEnabled();
+    }
+
+    protected void invalidate(EntityPersister persister) {
+        if (TupleProjectionCache.isEnabled()) {
+            var name = persister.getEntityName();
+            TupleProjectionCache.invalidate(name);
+            var cls = persister.getMappedClass();
+            if (nonNull(cls)) {
+                for (var type : types.get(cls)) {
+                    if (!type.equals(name)) {
+                        TupleProjectionCache.invalidate(type);
+                    }
+                }
+            }
+        }
+    }
+
+    private static void addInterfaces(Class<?> cls, Set<String> result) {
+        for (var intf : cls.getInterfaces()) {
+            if (result.add(intf.getName())) {
+                addInterfaces(intf, result);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Function;
+
+import static java.util.Objects.isNull;
+
+/**
+ * Fast path for single column tuples mapped to value types (UUID, String, boxed primitives and CodeEnum). The value
+ * is converted through a function bound once per destination type, no mapping plan is built.
+ */
+@SuppressWarnings("unchecked")
+public class TupleScalarMapper {
+
+    /**
+     * Types registered as {@code Tuple} mappers. {@code String} isn't one of them, as it would clash with the generic
+     * to-string mappings, so it is a scalar for the {@link CodeHibernate} mapping methods only.
+     */
+    public static final List<Class<?>> MAPPER_TYPES = List.of(UUID.class, Integer.class, Long.class, Short.class,
+            Byte.class, Double.class, Float.class, Boolean.class, Character.class, CodeEnum.class);
+
+    private static final ClassValue<Function<Object, Object>> converters = new ClassValue<>() {
+        @Override
+        protected Function<Object, Object> computeValue(Class<?> type) {
+            return TupleMapperConversions.converter(null, type);
+        }
+    };
+
+    private static final ClassValue<Boolean> scalars = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> type) {
+            return String.class.equals(type) || MAPPER_TYPES.contains(type) || CodeEnum.class.isAssignableFrom(type);
+        }
+    };
+
+    public static boolean isScalar(Class<?> destination) {
+        return scalars.get(destination);
+    }
+
+    public static <T> T map(Tuple tuple, Class<T> destination) {
+        var size = tuple.getElements().size();
+        if (size != 1) {
+            throw new MapperException("Unable to map tuple with " + size + " elements to " + destination.getName() + "!");
+        }
+        var value = tuple.get(0);
+        return isNull(value) ? null : (T) converters.get(destination).apply(value);
+    }
+
+    private TupleScalarMapper() {
+        //Do nothing
+    }
+
+}
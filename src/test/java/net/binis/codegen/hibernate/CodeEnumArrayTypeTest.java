@@ -0,0 +1,143 @@
+package net.binis.codegen.hibernate;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.Setter;
+import net.binis.codegen.hibernate.objects.TestEnum;
+import org.hibernate.HibernateException;
+import org.hibernate.annotations.Type;
+import org.hibernate.dialect.OracleDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.junit.jupiter.api.Test;
+
+import java.sql.DriverManager;
+import java.util.List;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeEnumArrayTypeTest {
+
+    @Test
+    void testOrdinalArray() throws Exception {
+        testArray(false, "smallint array");
+    }
+
+    @Test
+    void testNamedArray() throws Exception {
+        testArray(true, "varchar array");
+    }
+
+    private void testArray(boolean named, String columnDefinition) throws Exception {
+        var type = new CodeEnumArrayType();
+        var properties = new Properties();
+        properties.put(CodeEnumArrayType.ENUM, TestEnum.class.getName());
+        properties.put(CodeEnumArrayType.NAMED, Boolean.toString(named));
+        type.setParameterValues(properties);
+
+        try (var connection = DriverManager.getConnection("jdbc:h2:mem:arrays" + named)) {
+            connection.createStatement().execute("create table test_enums (id int, test_list " + columnDefinition + ")");
+            try (var st = connection.prepareStatement("insert into test_enums values (?, ?)")) {
+                st.setInt(1, 1);
+                type.nullSafeSet(st, List.of(TestEnum.TWO, TestEnum.THREE), 2, null);
+                st.execute();
+                st.setInt(1, 2);
+                type.nullSafeSet(st, null, 2, null);
+                st.execute();
+            }
+
+            try (var st = connection.prepareStatement("select test_list from test_enums where array_contains(test_list, ?)")) {
+                st.setObject(1, named ? "THREE" : (Object) 2);
+                var rs = st.executeQuery();
+                assertTrue(rs.next());
+                assertEquals(List.of(TestEnum.TWO, TestEnum.THREE), type.nullSafeGet(rs, 1, null, null));
+                assertFalse(rs.next());
+            }
+
+            try (var st = connection.prepareStatement("select test_list from test_enums where id = 2")) {
+                var rs = st.executeQuery();
+                assertTrue(rs.next());
+                assertNull(type.nullSafeGet(rs, 1, null, null));
+            }
+        }
+    }
+
+    @Test
+    void testContainsQuery() {
+        try (var factory = TestSessionFactory.build("enumArrays", EnumArrays.class)) {
+            factory.inTransaction(s -> {
+                s.persist(enumArrays(1L, List.of(TestEnum.ONE, TestEnum.THREE)));
+                s.persist(enumArrays(2L, List.of(TestEnum.TWO)));
+                s.persist(enumArrays(3L, List.of(TestEnum.THREE, TestEnum.TWO)));
+            });
+
+            var result = factory.fromTransaction(s -> s.createSelectionQuery("select e.id from EnumArrays e where enum_array_contains(e.flags, :value) order by e.id", Long.class)
+                    .setParameter("value", (short) TestEnum.TWO.ordinal(), Short.class)
+                    .getResultList());
+            var load = factory.fromTransaction(s -> s.find(EnumArrays.class, 3L));
+
+            assertEquals(List.of(2L, 3L), result);
+            assertEquals(List.of(TestEnum.THREE, TestEnum.TWO), load.getFlags());
+        }
+
+        var contributor = new CodeEnumFunctionContributor();
+        assertEquals("(?1@>array[?2])", contributor.arrayContains(new PostgreSQLDialect()));
+        assertEquals("(?2=any(?1))", contributor.arrayContains(new OracleDialect()));
+    }
+
+    @Test
+    void testOrdinalOutOfRange() {
+        var type = new CodeEnumArrayType();
+        var properties = new Properties();
+        properties.put(CodeEnumArrayType.ENUM, TestEnum.class.getName());
+        type.setParameterValues(properties);
+
+        var value = CodeEnumUnknownValues.of(TestEnum.class).fromOrdinal(Short.MAX_VALUE + 1);
+        assertThrows(HibernateException.class, () -> type.toElements(List.of(TestEnum.ONE, value)));
+    }
+
+    private static EnumArrays enumArrays(Long id, List<TestEnum> flags) {
+        var result = new EnumArrays();
+        result.setId(id);
+        result.setFlags(flags);
+        return result;
+    }
+
+    @Entity(name = "EnumArrays")
+    @Getter
+    @Setter
+    public static class EnumArrays {
+
+        @Id
+        private Long id;
+
+        @Type(CodeEnumArrayType.class)
+        @Column(columnDefinition = "smallint array")
+        private List<TestEnum> flags;
+
+    }
+
+}
@@ -0,0 +1,126 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.hibernate.objects.TestEnum;
+import net.binis.codegen.hibernate.objects.TestSparseEnum;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.HibernateException;
+import org.hibernate.type.descriptor.jdbc.BigIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.SmallIntJdbcType;
+import org.hibernate.type.descriptor.jdbc.VarcharJdbcType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeEnumCodecTest {
+
+    @Test
+    void testOrdinal() throws Exception {
+        var codec = new CodeEnumCodec<CodeEnum>(new CodeEnumJavaType(TestEnum.class), SmallIntJdbcType.INSTANCE);
+
+        assertTrue(codec.isOrdinal());
+        assertEquals(TestEnum.TWO, codec.read(resultSet((short) 1), 1, null));
+        assertNull(codec.read(resultSet(null), 1, null));
+
+        var calls = new ArrayList<String>();
+        codec.write(statement(calls), TestEnum.THREE, 1, null);
+        codec.write(statement(calls), null, 2, null);
+        assertEquals(List.of("setShort:1:2", "setNull:2:5"), calls);
+
+        assertEquals("1", codec.toSqlLiteral(TestEnum.TWO));
+    }
+
+    @Test
+    void testNamed() throws Exception {
+        var codec = new CodeEnumCodec<CodeEnum>(new CodeEnumJavaType(TestEnum.class), VarcharJdbcType.INSTANCE);
+
+        assertFalse(codec.isOrdinal());
+        assertEquals(TestEnum.THREE, codec.read(resultSet("THREE"), 1, null));
+        assertNull(codec.read(resultSet(null), 1, null));
+
+        var calls = new ArrayList<String>();
+        codec.write(statement(calls), TestEnum.ONE, 3, null);
+        assertEquals(List.of("setString:3:ONE"), calls);
+
+        assertEquals("'TWO'", codec.toSqlLiteral(TestEnum.TWO));
+    }
+
+    @Test
+    void testSparseOrdinals() throws Exception {
+        var codec = new CodeEnumCodec<CodeEnum>(new CodeEnumJavaType(TestSparseEnum.class), SmallIntJdbcType.INSTANCE);
+        var far = CodeFactory.initializeEnumValue(TestSparseEnum.class, "FAR", CodeEnumCodec.MAX_DENSE_ORDINAL + 100);
+        var negative = CodeFactory.initializeEnumValue(TestSparseEnum.class, "NEGATIVE", -5);
+
+        assertSame(far, codec.fromOrdinal(CodeEnumCodec.MAX_DENSE_ORDINAL + 100));
+        assertEquals(1, codec.getRebuilds());
+        assertSame(negative, codec.read(resultSet((short) -5), 1, null));
+        assertSame(far, codec.fromOrdinal(CodeEnumCodec.MAX_DENSE_ORDINAL + 100));
+        assertSame(TestSparseEnum.SECOND, codec.fromOrdinal(1));
+        assertEquals(1, codec.getRebuilds());
+
+        var unknown = codec.fromOrdinal(CodeEnumCodec.MAX_DENSE_ORDINAL + 101);
+        assertTrue(unknown.unknown());
+        assertSame(unknown, codec.fromOrdinal(CodeEnumCodec.MAX_DENSE_ORDINAL + 101));
+        assertEquals(1, codec.getRebuilds());
+    }
+
+    @Test
+    void testOutOfRange() throws Exception {
+        var codec = new CodeEnumCodec<CodeEnum>(new CodeEnumJavaType(TestSparseEnum.class), SmallIntJdbcType.INSTANCE);
+        var wide = CodeFactory.initializeEnumValue(TestSparseEnum.class, "WIDE", Short.MAX_VALUE + 1);
+
+        //Not truncated into another value
+        var calls = new ArrayList<String>();
+        assertThrows(HibernateException.class, () -> codec.write(statement(calls), wide, 1, null));
+        assertTrue(calls.isEmpty());
+
+        var bigint = new CodeEnumCodec<CodeEnum>(new CodeEnumJavaType(TestSparseEnum.class), BigIntJdbcType.INSTANCE);
+        assertSame(wide, bigint.read(resultSet((long) Short.MAX_VALUE + 1), 1, null));
+        assertThrows(HibernateException.class, () -> bigint.read(resultSet(1L << 32), 1, null));
+    }
+
+    static ResultSet resultSet(Object value) {
+        return (ResultSet) Proxy.newProxyInstance(ResultSet.class.getClassLoader(), new Class[]{ResultSet.class}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "wasNull" -> value == null;
+                    case "getShort" -> value == null ? (short) 0 : value;
+                    case "getLong" -> value == null ? 0L : value;
+                    case "getString", "getObject" -> value;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static PreparedStatement statement(List<String> calls) {
+        return (PreparedStatement) Proxy.newProxyInstance(PreparedStatement.class.getClassLoader(), new Class[]{PreparedStatement.class}, (proxy, method, args) -> {
+            calls.add(method.getName() + ":" + args[0] + ":" + args[1]);
+            return null;
+        });
+    }
+
+}
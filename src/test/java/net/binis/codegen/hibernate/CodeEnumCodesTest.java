@@ -0,0 +1,124 @@
+package net.binis.codegen.hibernate;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.hibernate.objects.TestEnum;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.HibernateException;
+import org.hibernate.type.descriptor.jdbc.CharJdbcType;
+import org.hibernate.type.descriptor.jdbc.TinyIntJdbcType;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.binis.codegen.hibernate.CodeEnumCodecTest.resultSet;
+import static net.binis.codegen.hibernate.CodeEnumCodecTest.statement;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeEnumCodesTest {
+
+    @AfterEach
+    void cleanUp() {
+        CodeEnumCodes.unregister(TestEnum.class);
+    }
+
+    @Test
+    void testCharCodes() throws Exception {
+        var codes = CodeEnumCodes.register(TestEnum.class, v -> v.name().substring(0, 2));
+        var codec = new CodeEnumCodec<CodeEnum>(new CodeEnumJavaType(TestEnum.class), CharJdbcType.INSTANCE, (CodeEnumCodes) codes);
+
+        assertFalse(codes.isNumeric());
+        assertEquals(2, codes.getMaxCode());
+        assertSame(TestEnum.ONE, codes.fromCode("ON"));
+        assertSame(TestEnum.THREE, codec.read(resultSet("TH"), 1, null));
+
+        var unknown = codec.read(resultSet("Z "), 1, null);
+        assertTrue(unknown.unknown());
+        assertSame(unknown, codes.fromCode("Z"));
+
+        var calls = new ArrayList<String>();
+        codec.write(statement(calls), TestEnum.TWO, 1, null);
+        codec.write(statement(calls), unknown, 2, null);
+        assertEquals(List.of("setString:1:TW", "setString:2:Z"), calls);
+        assertEquals("'ON'", codec.toSqlLiteral(TestEnum.ONE));
+    }
+
+    @Test
+    void testNumericCodes() throws Exception {
+        var codes = CodeEnumCodes.register(TestEnum.class, v -> 10 + v.ordinal());
+        var codec = new CodeEnumCodec<CodeEnum>(new CodeEnumJavaType(TestEnum.class), TinyIntJdbcType.INSTANCE, (CodeEnumCodes) codes);
+
+        assertTrue(codes.isNumeric());
+        assertEquals(12, codes.getMaxCode());
+        assertSame(TestEnum.TWO, codec.read(resultSet((short) 11), 1, null));
+        assertTrue(codes.fromCode(1).unknown());
+
+        var calls = new ArrayList<String>();
+        codec.write(statement(calls), TestEnum.THREE, 1, null);
+        assertEquals(List.of("setShort:1:12"), calls);
+    }
+
+    @Test
+    void testInvalidCodes() {
+        assertThrows(HibernateException.class, () -> CodeEnumCodes.register(TestEnum.class, v -> "ABC"));
+        assertThrows(HibernateException.class, () -> CodeEnumCodes.register(TestEnum.class, v -> 1));
+        assertNull(CodeEnumCodes.of(TestEnum.class));
+    }
+
+    @Test
+    void testRegisterOnce() {
+        var codes = CodeEnumCodes.register(TestEnum.class, CodeEnum::ordinal);
+
+        assertThrows(HibernateException.class, () -> CodeEnumCodes.register(TestEnum.class, v -> 10 + v.ordinal()));
+        assertSame(codes, CodeEnumCodes.of(TestEnum.class));
+    }
+
+    @Test
+    void testSerialization() throws Exception {
+        var codes = CodeEnumCodes.register(TestEnum.class, v -> 10 + v.ordinal());
+        var codec = new CodeEnumCodec<CodeEnum>(new CodeEnumJavaType(TestEnum.class), TinyIntJdbcType.INSTANCE, (CodeEnumCodes) codes);
+        var bytes = serialize(codec);
+
+        assertSame(codes, ((CodeEnumCodec<?>) deserialize(bytes)).getCodes());
+
+        CodeEnumCodes.unregister(TestEnum.class);
+        assertThrows(InvalidObjectException.class, () -> deserialize(bytes));
+    }
+
+    private static byte[] serialize(Object value) throws IOException {
+        var out = new ByteArrayOutputStream();
+        try (var stream = new ObjectOutputStream(out)) {
+            stream.writeObject(value);
+        }
+        return out.toByteArray();
+    }
+
+    private static Object deserialize(byte[] bytes) throws IOException, ClassNotFoundException {
+        try (var stream = new ObjectInputStream(new ByteArrayInputStream(bytes))) {
+            return stream.readObject();
+        }
+    }
+
+}
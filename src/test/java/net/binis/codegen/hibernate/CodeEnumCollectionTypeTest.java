@@ -0,0 +1,191 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.CollectionTable;
+import jakarta.persistence.ElementCollection;
+import jakarta.persistence.Entity;
+import jakarta.persistence.FetchType;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.Setter;
+import net.binis.codegen.hibernate.objects.TestEnum;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.annotations.CollectionType;
+import org.hibernate.annotations.MapKeyType;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.Type;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.collection.spi.PersistentCollection;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeEnumCollectionTypeTest {
+
+    @Test
+    void testBitSet() {
+        var type = new CodeEnumBitSetType();
+        var properties = new Properties();
+        properties.put(CodeEnumBitSetType.ENUM, TestEnum.class.getName());
+        type.setParameterValues(properties);
+
+        var set = (Set<CodeEnum>) type.instantiate(0);
+        assertInstanceOf(CodeEnumBitSet.class, set);
+        var unknown = type.getCodec().getEnumJavaType().fromInteger(2001);
+
+        assertTrue(set.add(TestEnum.THREE));
+        assertTrue(set.add(TestEnum.ONE));
+        assertFalse(set.add(TestEnum.ONE));
+        assertTrue(set.add(unknown));
+        assertEquals(3, set.size());
+        assertEquals(List.of(TestEnum.ONE, TestEnum.THREE, unknown), new ArrayList<>(set));
+        assertEquals(Set.of(TestEnum.ONE, TestEnum.THREE, unknown), set);
+        assertTrue(set.contains(TestEnum.THREE));
+        assertFalse(set.contains(TestEnum.TWO));
+
+        assertTrue(set.remove(TestEnum.ONE));
+        assertTrue(set.remove(unknown));
+        assertEquals(Set.of(TestEnum.THREE), set);
+
+        var wrapped = type.wrap(null, new HashSet<>(List.of(TestEnum.TWO)));
+        assertInstanceOf(CodeEnumBitSetType.PersistentBitSet.class, wrapped);
+        assertTrue(type.contains(wrapped, TestEnum.TWO));
+    }
+
+    @Test
+    void testArrayMap() {
+        var type = new CodeEnumArrayMapType();
+        var properties = new Properties();
+        properties.put(CodeEnumArrayMapType.ENUM, TestEnum.class.getName());
+        type.setParameterValues(properties);
+
+        var map = (Map<CodeEnum, Object>) type.instantiate(0);
+        assertInstanceOf(CodeEnumArrayMap.class, map);
+        var unknown = type.getCodec().getEnumJavaType().fromInteger(2002);
+
+        assertNull(map.put(TestEnum.TWO, "two"));
+        assertNull(map.put(TestEnum.ONE, null));
+        assertNull(map.put(unknown, "unknown"));
+        assertEquals("two", map.put(TestEnum.TWO, "TWO"));
+        assertEquals(3, map.size());
+        assertTrue(map.containsKey(TestEnum.ONE));
+        assertNull(map.get(TestEnum.ONE));
+        assertFalse(map.containsKey(TestEnum.THREE));
+        assertEquals(List.of(TestEnum.ONE, TestEnum.TWO, unknown), new ArrayList<>(map.keySet()));
+
+        var expected = new HashMap<CodeEnum, Object>();
+        expected.put(TestEnum.ONE, null);
+        expected.put(TestEnum.TWO, "TWO");
+        expected.put(unknown, "unknown");
+        assertEquals(expected, map);
+
+        assertEquals(TestEnum.TWO, type.indexOf(map, "TWO"));
+        assertEquals("TWO", map.remove(TestEnum.TWO));
+        map.keySet().removeIf(k -> k == unknown);
+        assertEquals(1, map.size());
+        assertTrue(map.containsKey(TestEnum.ONE));
+    }
+
+    @Test
+    void testSessionRoundTrip() {
+        try (var factory = TestSessionFactory.build("enumCollections", Map.of(AvailableSettings.GENERATE_STATISTICS, true), EnumCollections.class)) {
+            var statistics = factory.getStatistics();
+            factory.inTransaction(s -> {
+                var entity = new EnumCollections();
+                entity.setId(1L);
+                entity.getFlags().addAll(List.of(TestEnum.ONE, TestEnum.THREE));
+                entity.getLabels().put(TestEnum.TWO, "two");
+                s.persist(entity);
+                s.flush();
+                assertInstanceOf(CodeEnumBitSetType.PersistentBitSet.class, entity.getFlags());
+                assertInstanceOf(CodeEnumArrayMapType.PersistentArrayMap.class, entity.getLabels());
+            });
+
+            //Loaded collections are instantiated by the types and snapshot into array maps, unchanged ones aren't flushed
+            var updates = statistics.getCollectionUpdateCount();
+            factory.inTransaction(s -> {
+                var entity = s.find(EnumCollections.class, 1L);
+                assertEquals(Set.of(TestEnum.ONE, TestEnum.THREE), entity.getFlags());
+                assertEquals(Map.of(TestEnum.TWO, "two"), entity.getLabels());
+                assertInstanceOf(CodeEnumBitSetType.PersistentBitSet.class, entity.getFlags());
+                assertInstanceOf(CodeEnumArrayMap.class, ((PersistentCollection<?>) entity.getFlags()).getStoredSnapshot());
+                assertInstanceOf(CodeEnumArrayMap.class, ((PersistentCollection<?>) entity.getLabels()).getStoredSnapshot());
+            });
+            assertEquals(updates, statistics.getCollectionUpdateCount());
+
+            factory.inTransaction(s -> {
+                var entity = s.find(EnumCollections.class, 1L);
+                entity.getFlags().remove(TestEnum.ONE);
+                entity.getFlags().add(TestEnum.TWO);
+                entity.getLabels().remove(TestEnum.TWO);
+                entity.getLabels().put(TestEnum.THREE, "three");
+                assertTrue(((PersistentCollection<?>) entity.getFlags()).isDirty());
+                assertTrue(((PersistentCollection<?>) entity.getLabels()).isDirty());
+            });
+            assertEquals(updates + 2, statistics.getCollectionUpdateCount());
+
+            var load = factory.fromTransaction(s -> s.find(EnumCollections.class, 1L));
+            assertEquals(Set.of(TestEnum.TWO, TestEnum.THREE), load.getFlags());
+            assertEquals(Map.of(TestEnum.THREE, "three"), load.getLabels());
+
+            //Merging a detached entity copies the plain collections into the managed ones
+            var detached = new EnumCollections();
+            detached.setId(1L);
+            detached.getFlags().add(TestEnum.ONE);
+            detached.getLabels().put(TestEnum.ONE, "one");
+            factory.inTransaction(s -> {
+                var merged = s.merge(detached);
+                assertInstanceOf(CodeEnumBitSetType.PersistentBitSet.class, merged.getFlags());
+                assertInstanceOf(CodeEnumArrayMapType.PersistentArrayMap.class, merged.getLabels());
+            });
+
+            load = factory.fromTransaction(s -> s.find(EnumCollections.class, 1L));
+            assertEquals(Set.of(TestEnum.ONE), load.getFlags());
+            assertEquals(Map.of(TestEnum.ONE, "one"), load.getLabels());
+        }
+    }
+
+    @Entity(name = "EnumCollections")
+    @Getter
+    @Setter
+    public static class EnumCollections {
+
+        @Id
+        private Long id;
+
+        @ElementCollection(fetch = FetchType.EAGER)
+        @CollectionTable(name = "EnumCollectionFlags")
+        @Type(CodeEnumType.class)
+        @CollectionType(type = CodeEnumBitSetType.class, parameters = @Parameter(name = CodeEnumBitSetType.ENUM, value = "net.binis.codegen.hibernate.objects.TestEnum"))
+        private Set<TestEnum> flags = new HashSet<>();
+
+        @ElementCollection(fetch = FetchType.EAGER)
+        @CollectionTable(name = "EnumCollectionLabels")
+        @MapKeyType(CodeEnumType.class)
+        @CollectionType(type = CodeEnumArrayMapType.class, parameters = @Parameter(name = CodeEnumArrayMapType.ENUM, value = "net.binis.codegen.hibernate.objects.TestEnum"))
+        private Map<TestEnum, String> labels = new HashMap<>();
+
+    }
+
+}
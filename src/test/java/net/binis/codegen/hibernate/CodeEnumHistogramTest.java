@@ -0,0 +1,68 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.hibernate.objects.TestEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.elements;
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.tuple;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeEnumHistogramTest {
+
+    @Test
+    void testHistogram() {
+        var elements = elements("testEnum", "count");
+        var histogram = CodeEnumHistogram.of(List.of(
+                tuple(elements, TestEnum.THREE, 5L),
+                tuple(elements, TestEnum.ONE, 2L),
+                tuple(elements, null, 1L),
+                tuple(elements, 3003, 4L)), TestEnum.class);
+
+        assertEquals(5L, histogram.get(TestEnum.THREE));
+        assertEquals(2L, histogram.getByOrdinal(0));
+        assertEquals(0L, histogram.get(TestEnum.TWO));
+        assertEquals(1L, histogram.getNulls());
+        assertEquals(12L, histogram.total());
+        assertArrayEquals(new long[]{2L, 0L, 5L}, histogram.toArray());
+
+        var unknown = histogram.getCodec().fromOrdinal(3003);
+        assertTrue(unknown.unknown());
+        assertEquals(4L, histogram.get(unknown));
+
+        var visited = new ArrayList<String>();
+        histogram.forEach((value, count) -> visited.add(value.name() + "=" + count));
+        assertEquals(List.of("ONE=2", "THREE=5", unknown.name() + "=4"), visited);
+        assertEquals(5L, histogram.toMap().get(TestEnum.THREE));
+        assertEquals(3, histogram.toMap().size());
+    }
+
+    @Test
+    void testRows() {
+        var histogram = CodeEnumHistogram.ofRows(List.of(new Object[]{"TWO", 3L}, new Object[]{(short) 1, 2}), TestEnum.class);
+        assertEquals(5L, histogram.get(TestEnum.TWO));
+    }
+
+}
@@ -0,0 +1,149 @@
+package net.binis.codegen.hibernate;
+
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ * 
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ * 
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.Setter;
+import net.binis.codegen.hibernate.objects.TestEnum;
+import org.hibernate.HibernateException;
+import org.hibernate.annotations.Type;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.dialect.Dialect;
+import org.hibernate.dialect.MariaDBDialect;
+import org.hibernate.dialect.MySQLDialect;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.hibernate.usertype.DynamicParameterizedType;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Properties;
+import java.util.Set;
+
+import static net.binis.codegen.hibernate.CodeEnumCodecTest.resultSet;
+import static net.binis.codegen.hibernate.CodeEnumCodecTest.statement;
+import static org.hibernate.type.SqlTypes.BIGINT;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeEnumSetTypeTest {
+
+    @Test
+    void testMask() throws Exception {
+        var type = new CodeEnumSetType();
+        var properties = new Properties();
+        properties.put(CodeEnumSetType.ENUM, TestEnum.class.getName());
+        type.setParameterValues(properties);
+
+        assertEquals(BIGINT, type.getSqlType());
+        assertEquals(0b101L, CodeEnumSetType.mask(TestEnum.ONE, TestEnum.THREE));
+
+        var calls = new ArrayList<String>();
+        type.nullSafeSet(statement(calls), Set.of(TestEnum.TWO, TestEnum.THREE), 1, null);
+        assertEquals(List.of("setLong:1:6"), calls);
+
+        var load = type.nullSafeGet(resultSet(6L), 1, null, null);
+        assertEquals(Set.of(TestEnum.TWO, TestEnum.THREE), load);
+        assertNull(type.nullSafeGet(resultSet(null), 1, null, null));
+
+        assertEquals(Set.of(TestEnum.ONE), type.assemble(type.disassemble(Set.of(TestEnum.ONE)), null));
+        assertTrue(type.equals(Set.of(TestEnum.ONE, TestEnum.TWO), type.deepCopy(Set.of(TestEnum.TWO, TestEnum.ONE))));
+    }
+
+    @Test
+    void testListRejected() {
+        var type = new CodeEnumSetType();
+        var properties = new Properties();
+        properties.put(CodeEnumSetType.ENUM, TestEnum.class.getName());
+        properties.put(DynamicParameterizedType.PARAMETER_TYPE, Proxy.newProxyInstance(DynamicParameterizedType.ParameterType.class.getClassLoader(), new Class[]{DynamicParameterizedType.ParameterType.class}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "getReturnedClass" -> List.class;
+                    case "getReturnedJavaType" -> List.class;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                }));
+
+        assertThrows(HibernateException.class, () -> type.setParameterValues(properties));
+    }
+
+    @Test
+    void testContainsQueries() {
+        try (var factory = TestSessionFactory.build("enumSets", EnumSets.class)) {
+            factory.inTransaction(s -> {
+                s.persist(enumSets(1L, Set.of(TestEnum.ONE, TestEnum.THREE)));
+                s.persist(enumSets(2L, Set.of(TestEnum.TWO)));
+                s.persist(enumSets(3L, Set.of(TestEnum.ONE, TestEnum.TWO, TestEnum.THREE)));
+            });
+
+            var all = factory.fromTransaction(s -> s.createSelectionQuery("select e.id from EnumSets e where enum_set_contains(e.flags, :mask) order by e.id", Long.class)
+                    .setParameter("mask", CodeEnumSetType.mask(TestEnum.ONE, TestEnum.THREE), Long.class)
+                    .getResultList());
+            var one = factory.fromTransaction(s -> s.createSelectionQuery("select e.id from EnumSets e where enum_set_contains_one(e.flags, :mask) order by e.id", Long.class)
+                    .setParameter("mask", CodeEnumSetType.mask(TestEnum.TWO, TestEnum.THREE), Long.class)
+                    .getResultList());
+            var load = factory.fromTransaction(s -> s.find(EnumSets.class, 1L));
+
+            assertEquals(List.of(1L, 3L), all);
+            assertEquals(List.of(1L, 2L, 3L), one);
+            assertEquals(Set.of(TestEnum.ONE, TestEnum.THREE), load.getFlags());
+        }
+
+        var contributor = new CodeEnumFunctionContributor();
+        assertEquals("(?1&cast(?2 as bigint))", contributor.bitAnd(new PostgreSQLDialect(), contributor.mask(types(new PostgreSQLDialect()))));
+        assertEquals("(?1&cast(?2 as signed))", contributor.bitAnd(new MySQLDialect(), contributor.mask(types(new MySQLDialect()))));
+        assertEquals("cast(?2 as signed)", contributor.mask(types(new MariaDBDialect())));
+    }
+
+    private static TypeConfiguration types(Dialect dialect) {
+        var registry = new StandardServiceRegistryBuilder().build();
+        try {
+            var types = new TypeConfiguration();
+            dialect.contribute(() -> types, registry);
+            return types;
+        } finally {
+            StandardServiceRegistryBuilder.destroy(registry);
+        }
+    }
+
+    private static EnumSets enumSets(Long id, Set<TestEnum> flags) {
+        var result = new EnumSets();
+        result.setId(id);
+        result.setFlags(flags);
+        return result;
+    }
+
+    @Entity(name = "EnumSets")
+    @Getter
+    @Setter
+    public static class EnumSets {
+
+        @Id
+        private Long id;
+
+        @Type(CodeEnumSetType.class)
+        private Set<TestEnum> flags;
+
+    }
+
+}
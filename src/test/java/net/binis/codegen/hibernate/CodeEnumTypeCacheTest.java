@@ -0,0 +1,238 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Cacheable;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import lombok.Getter;
+import lombok.Setter;
+import net.binis.codegen.hibernate.objects.TestEnum;
+import org.hibernate.SessionFactory;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.CacheLayout;
+import org.hibernate.annotations.Parameter;
+import org.hibernate.annotations.QueryCacheLayout;
+import org.hibernate.annotations.Type;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.type.SqlTypes;
+import org.hibernate.type.spi.TypeConfiguration;
+import org.junit.jupiter.api.Test;
+
+import java.io.*;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Properties;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeEnumTypeCacheTest {
+
+    @Test
+    void testOrdinalCache() throws Exception {
+        var type = enumType(false);
+        var region = new Region();
+
+        region.put("one", type.disassemble(TestEnum.ONE));
+        region.put("null", type.disassemble(null));
+
+        assertEquals(Short.class, region.get("one").getClass());
+        assertSame(TestEnum.ONE, type.assemble(region.get("one"), null));
+        assertNull(type.assemble(region.get("null"), null));
+    }
+
+    @Test
+    void testNamedCache() throws Exception {
+        var type = enumType(true);
+        var region = new Region();
+
+        region.put("three", type.disassemble(TestEnum.THREE));
+
+        assertEquals("THREE", region.get("three"));
+        assertSame(TestEnum.THREE, type.assemble(region.get("three"), null));
+    }
+
+    @Test
+    void testUnknownCache() throws Exception {
+        var type = enumType(false);
+        var region = new Region();
+        var unknown = type.getCodec().fromOrdinal(3001);
+
+        region.put("unknown", type.disassemble(unknown));
+
+        assertSame(unknown, type.assemble(region.get("unknown"), null));
+    }
+
+    @Test
+    void testEntityCache() {
+        try (var factory = sessionFactory("entityCache")) {
+            var loaded = factory.fromTransaction(s -> List.of(s.find(CachedEnums.class, 1L), s.find(CachedEnums.class, 2L)));
+            var statistics = factory.getStatistics();
+            statistics.clear();
+
+            var cached = factory.fromTransaction(s -> List.of(s.find(CachedEnums.class, 1L), s.find(CachedEnums.class, 2L)));
+
+            assertEquals(2, statistics.getSecondLevelCacheHitCount());
+            assertEquals(0, statistics.getEntityLoadCount());
+            assertSame(TestEnum.ONE, cached.get(0).getOrdinalValue());
+            assertSame(TestEnum.THREE, cached.get(0).getNamedValue());
+            assertTrue(cached.get(1).getOrdinalValue().unknown());
+            assertEquals(100, cached.get(1).getOrdinalValue().ordinal());
+            assertSame(loaded.get(1).getOrdinalValue(), cached.get(1).getOrdinalValue());
+            assertTrue(cached.get(1).getNamedValue().unknown());
+            assertEquals("LOST", cached.get(1).getNamedValue().name());
+            assertSame(loaded.get(1).getNamedValue(), cached.get(1).getNamedValue());
+        }
+    }
+
+    @Test
+    void testQueryCache() {
+        try (var factory = sessionFactory("queryCache")) {
+            var query = "from CachedEnums e order by e.id";
+            var loaded = factory.fromTransaction(s -> s.createSelectionQuery(query, CachedEnums.class).setCacheable(true).getResultList());
+            var statistics = factory.getStatistics();
+            statistics.clear();
+
+            var cached = factory.fromTransaction(s -> s.createSelectionQuery(query, CachedEnums.class).setCacheable(true).getResultList());
+
+            assertEquals(1, statistics.getQueryCacheHitCount());
+            assertEquals(0, statistics.getQueryExecutionCount());
+            assertSame(TestEnum.ONE, cached.get(0).getOrdinalValue());
+            assertSame(TestEnum.THREE, cached.get(0).getNamedValue());
+            assertSame(loaded.get(1).getOrdinalValue(), cached.get(1).getOrdinalValue());
+            assertSame(loaded.get(1).getNamedValue(), cached.get(1).getNamedValue());
+        }
+    }
+
+    /**
+     * Hibernate caches scalar rows as they were read instead of disassembling them, so values coming back from a
+     * serializing cache are equal to the registered ones, not the same instances
+     */
+    @Test
+    void testScalarQueryCache() {
+        try (var factory = sessionFactory("scalarQueryCache")) {
+            var query = "select e.ordinalValue, e.namedValue from CachedEnums e order by e.id";
+            var loaded = factory.fromTransaction(s -> s.createSelectionQuery(query, Object[].class).setCacheable(true).getResultList());
+            var statistics = factory.getStatistics();
+            statistics.clear();
+
+            var cached = factory.fromTransaction(s -> s.createSelectionQuery(query, Object[].class).setCacheable(true).getResultList());
+
+            assertEquals(1, statistics.getQueryCacheHitCount());
+            assertEquals(0, statistics.getQueryExecutionCount());
+            assertEquals(2, cached.size());
+            assertEquals(TestEnum.ONE, cached.get(0)[0]);
+            assertEquals(TestEnum.THREE, cached.get(0)[1]);
+            var ordinal = (TestEnum) cached.get(1)[0];
+            assertTrue(ordinal.unknown());
+            assertEquals(100, ordinal.ordinal());
+            assertEquals(loaded.get(1)[0], ordinal);
+            var named = (TestEnum) cached.get(1)[1];
+            assertTrue(named.unknown());
+            assertEquals("LOST", named.name());
+            assertEquals(loaded.get(1)[1], named);
+        }
+    }
+
+    /**
+     * Session factory with the second-level and query cache in local in-memory regions, holding a row with known
+     * values and a row with values unknown to the enum type
+     */
+    private static SessionFactory sessionFactory(String database) {
+        var factory = TestSessionFactory.build(database, Map.of(
+                AvailableSettings.USE_SECOND_LEVEL_CACHE, true,
+                AvailableSettings.USE_QUERY_CACHE, true,
+                AvailableSettings.CACHE_REGION_FACTORY, TestRegionFactory.class.getName(),
+                AvailableSettings.GENERATE_STATISTICS, true), CachedEnums.class);
+        factory.inTransaction(s -> {
+            s.persist(cachedEnums(1L, TestEnum.ONE, TestEnum.THREE));
+            s.persist(cachedEnums(2L, TestEnum.TWO, TestEnum.TWO));
+        });
+        factory.inTransaction(s -> s.createNativeMutationQuery("update CachedEnums set ordinalValue = 100, namedValue = 'LOST' where id = 2").executeUpdate());
+        factory.getCache().evictAllRegions();
+        return factory;
+    }
+
+    private static CachedEnums cachedEnums(Long id, TestEnum ordinal, TestEnum named) {
+        var result = new CachedEnums();
+        result.setId(id);
+        result.setOrdinalValue(ordinal);
+        result.setNamedValue(named);
+        return result;
+    }
+
+    static CodeEnumType enumType(boolean named) {
+        var type = new CodeEnumType();
+        type.setTypeConfiguration(new TypeConfiguration());
+        var properties = new Properties();
+        properties.put(CodeEnumType.ENUM, TestEnum.class.getName());
+        properties.put(CodeEnumType.TYPE, Integer.toString(named ? SqlTypes.VARCHAR : SqlTypes.SMALLINT));
+        type.setParameterValues(properties);
+        return type;
+    }
+
+    /**
+     * Query results keep only the ids of the entity, so they are assembled from the entity cache
+     */
+    @Entity(name = "CachedEnums")
+    @Cacheable
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE)
+    @QueryCacheLayout(layout = CacheLayout.SHALLOW)
+    @Getter
+    @Setter
+    public static class CachedEnums {
+
+        @Id
+        private Long id;
+
+        @Type(CodeEnumType.class)
+        private TestEnum ordinalValue;
+
+        @Type(value = CodeEnumType.class, parameters = @Parameter(name = CodeEnumType.NAMED, value = "true"))
+        private TestEnum namedValue;
+
+    }
+
+    /**
+     * Local in-memory cache region, storing the entries in serialized form like a distributed cache would.
+     */
+    static class Region {
+
+        private final Map<Object, byte[]> entries = new HashMap<>();
+
+        void put(Object key, Serializable value) throws IOException {
+            var out = new ByteArrayOutputStream();
+            try (var stream = new ObjectOutputStream(out)) {
+                stream.writeObject(value);
+            }
+            entries.put(key, out.toByteArray());
+        }
+
+        Serializable get(Object key) throws IOException, ClassNotFoundException {
+            try (var stream = new ObjectInputStream(new ByteArrayInputStream(entries.get(key)))) {
+                return (Serializable) stream.readObject();
+            }
+        }
+    }
+
+}
@@ -0,0 +1,124 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.factory.CodeFactory;
+import net.binis.codegen.hibernate.objects.TestEnum;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.HibernateException;
+import org.hibernate.type.descriptor.jdbc.IntegerJdbcType;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServerFactory;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeEnumUnknownValuesTest {
+
+    @Test
+    void testUnknownOrdinal() {
+        var javaType = new CodeEnumJavaType<>(TestEnum.class);
+        var unknowns = javaType.getUnknownValues();
+        var misses = unknowns.getMisses();
+
+        var first = javaType.fromInteger(1001);
+        var second = javaType.fromInteger(1001);
+
+        assertTrue(first.unknown());
+        assertSame(first, second);
+        assertEquals(1001, first.ordinal());
+        assertEquals(CodeEnumUnknownValues.unknownName(1001), first.name());
+        assertEquals(misses + 1, unknowns.getMisses());
+        assertSame(TestEnum.TWO, javaType.fromInteger(1));
+    }
+
+    @Test
+    void testUnknownName() {
+        var javaType = new CodeEnumJavaType<>(TestEnum.class);
+
+        var first = javaType.fromName("SEVEN");
+
+        assertTrue(first.unknown());
+        assertEquals("SEVEN", first.name());
+        assertSame(first, javaType.fromName("SEVEN"));
+        assertSame(TestEnum.ONE, javaType.fromName("ONE"));
+    }
+
+    @Test
+    void testRegisteredByCodeFactory() {
+        var unknowns = CodeEnumUnknownValues.of(TestEnum.class);
+        var misses = unknowns.getMisses();
+
+        var value = unknowns.fromOrdinal(3001);
+
+        assertSame(value, CodeFactory.enumValueOf(TestEnum.class, 3001));
+        assertSame(value, unknowns.fromOrdinal(3001));
+        assertEquals(misses + 1, unknowns.getMisses());
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void testMaxSize() throws Exception {
+        var metrics = new CodeHibernateJmxMetrics(MBeanServerFactory.newMBeanServer());
+        var javaType = new CodeEnumJavaType<>(TestEnum.class);
+        var unknowns = javaType.getUnknownValues();
+        try {
+            CodeHibernateMonitoring.setMetrics(metrics);
+            CodeEnumUnknownValues.setMaxSize(unknowns.size() + 1);
+            var hits = unknowns.getHits();
+            var misses = unknowns.getMisses();
+            var overflows = unknowns.getOverflows();
+
+            var created = javaType.fromInteger(5001);
+            assertSame(created, javaType.fromInteger(5001));
+
+            //Past the limit every unknown ordinal or name resolves to the same value
+            var overflow = javaType.fromInteger(5002);
+            assertTrue(overflow.unknown());
+            assertTrue(CodeEnumUnknownValues.isOverflow(overflow));
+            assertFalse(CodeEnumUnknownValues.isOverflow(created));
+            assertSame(overflow, javaType.fromInteger(5003));
+            assertSame(overflow, javaType.fromName("EIGHT"));
+            assertNull(CodeFactory.enumValueOf(TestEnum.class, 5002));
+            assertSame(TestEnum.ONE, javaType.fromInteger(0));
+
+            assertEquals(hits + 1, unknowns.getHits());
+            assertEquals(misses + 1, unknowns.getMisses());
+            assertEquals(overflows + 3, unknowns.getOverflows());
+            assertEquals(1, metrics.get("CodeEnum", TestEnum.class.getName(), "UnknownHits"));
+            assertEquals(1, metrics.get("CodeEnum", TestEnum.class.getName(), "UnknownMisses"));
+            assertEquals(3, metrics.get("CodeEnum", TestEnum.class.getName(), "UnknownOverflows"));
+
+            var codec = new CodeEnumCodec<CodeEnum>(new CodeEnumJavaType(TestEnum.class), IntegerJdbcType.INSTANCE);
+            assertThrows(HibernateException.class, () -> codec.write(null, overflow, 1, null));
+        } finally {
+            CodeEnumUnknownValues.setMaxSize(CodeEnumUnknownValues.DEFAULT_MAX_SIZE);
+            CodeHibernateMonitoring.disable();
+            metrics.close();
+        }
+    }
+
+    @Test
+    void testInvalidMaxSize() {
+        assertThrows(IllegalArgumentException.class, () -> CodeEnumUnknownValues.setMaxSize(0));
+    }
+
+}
@@ -0,0 +1,90 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import net.binis.codegen.hibernate.objects.TestEnum;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.time.Duration;
+import java.util.List;
+
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.elements;
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.tuple;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeHibernateEventsTest {
+
+    @BeforeAll
+    static void init() {
+        CodeHibernate.initialize();
+    }
+
+    @Test
+    void testEvents() throws Exception {
+        List<RecordedEvent> events;
+        try (var recording = new Recording()) {
+            recording.enable(CodeHibernateEvents.PlanEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(CodeHibernateEvents.BatchEvent.class).withThreshold(Duration.ZERO);
+            recording.enable(CodeHibernateEvents.EnumTypeEvent.class).withThreshold(Duration.ZERO);
+            recording.start();
+
+            TupleMapperPlans.clear();
+            var elements = elements("name", "count");
+            CodeHibernate.map(List.of(tuple(elements, "a", 1), tuple(elements, "b", 2)), TupleMapperPlansTest.TestDestination.class);
+            CodeEnumTypeCacheTest.enumType(false);
+
+            recording.stop();
+            var file = Files.createTempFile("codegen-hibernate", ".jfr");
+            try {
+                recording.dump(file);
+                events = RecordingFile.readAllEvents(file);
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        }
+
+        var plan = find(events, "net.binis.codegen.hibernate.TupleMapperPlan");
+        assertEquals(TupleMapperPlansTest.TestDestination.class.getName(), plan.getClass("destination").getName());
+        assertEquals(2, plan.getInt("aliases"));
+
+        var batch = find(events, "net.binis.codegen.hibernate.TupleMapperBatch");
+        assertEquals(2, batch.getInt("rows"));
+        assertFalse(batch.getBoolean("parallel"));
+
+        var enumType = find(events, "net.binis.codegen.hibernate.CodeEnumTypeConfiguration");
+        assertEquals(TestEnum.class.getName(), enumType.getClass("enumClass").getName());
+        assertEquals("ORDINAL", enumType.getString("conversion"));
+        assertNotNull(enumType.getString("jdbcType"));
+    }
+
+    private static RecordedEvent find(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(e -> e.getEventType().getName().equals(name))
+                .findFirst()
+                .orElseThrow(() -> new AssertionError("No " + name + " event recorded!"));
+    }
+
+}
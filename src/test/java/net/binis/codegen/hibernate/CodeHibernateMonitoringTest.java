@@ -0,0 +1,144 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.hibernate.objects.TestEnum;
+import net.binis.codegen.map.Mapper;
+import net.binis.codegen.objects.base.enumeration.CodeEnum;
+import org.hibernate.type.descriptor.jdbc.TinyIntJdbcType;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static net.binis.codegen.hibernate.CodeEnumCodecTest.resultSet;
+import static net.binis.codegen.hibernate.CodeEnumCodecTest.statement;
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.elements;
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.tuple;
+import static org.junit.jupiter.api.Assertions.*;
+
+class CodeHibernateMonitoringTest {
+
+    @BeforeAll
+    static void init() {
+        CodeHibernate.initialize();
+    }
+
+    @Test
+    void testJmxMetrics() throws Exception {
+        var server = MBeanServerFactory.newMBeanServer();
+        var metrics = new CodeHibernateJmxMetrics(server);
+        var destination = TupleMapperPlansTest.TestDestination.class.getName();
+        try {
+            CodeHibernateMonitoring.setMetrics(metrics);
+            assertTrue(CodeHibernateMonitoring.isEnabled());
+            TupleMapperPlans.clear();
+
+            var javaType = new CodeEnumJavaType<>(TestEnum.class);
+            javaType.fromName("ONE");
+            javaType.fromName("MONITORED");
+            assertEquals(2, metrics.get("CodeEnum", TestEnum.class.getName(), "Conversions"));
+            assertEquals(1, metrics.get("CodeEnum", TestEnum.class.getName(), "UnknownValues"));
+
+            var elements = elements("name", "count");
+            CodeHibernate.map(List.of(tuple(elements, "a", 1), tuple(elements, "b", 2)), TupleMapperPlansTest.TestDestination.class);
+            CodeHibernate.map(tuple(elements, "c", 3), TupleMapperPlansTest.TestDestination.class);
+
+            assertEquals(3, metrics.get("TupleMapping", destination, "Rows"));
+            assertTrue(metrics.get("TupleMapping", destination, "TimeNanos") > 0);
+            assertEquals(1, metrics.get("TupleMapperPlans", destination, "Builds"));
+            assertEquals(1, metrics.get("TupleMapperPlans", destination, "Misses"));
+            assertTrue(metrics.get("TupleMapperPlans", destination, "Hits") > 0);
+
+            var name = new ObjectName(CodeHibernateJmxMetrics.DOMAIN + ":type=TupleMapping,name=" + ObjectName.quote(destination));
+            assertEquals(3L, server.getAttribute(name, "Rows"));
+        } finally {
+            CodeHibernateMonitoring.disable();
+        }
+
+        assertFalse(CodeHibernateMonitoring.isEnabled());
+        assertTrue(server.queryNames(new ObjectName(CodeHibernateJmxMetrics.DOMAIN + ":*"), null).isEmpty());
+
+        CodeHibernate.map(tuple(elements("name"), "d"), TupleMapperPlansTest.TestDestination.class);
+        assertEquals(0, metrics.get("TupleMapping", destination, "Rows"));
+    }
+
+    @Test
+    void testConvertMetrics() {
+        var metrics = new CodeHibernateJmxMetrics(MBeanServerFactory.newMBeanServer());
+        var destination = TupleMapperPlansTest.TestDestination.class.getName();
+        try {
+            CodeHibernateMonitoring.setMetrics(metrics);
+            var elements = elements("name", "count");
+
+            //The path binis tuples(...) and the query processor take
+            var row = Mapper.convert(tuple(elements, "a", 1), TupleMapperPlansTest.TestDestination.class);
+            Mapper.convert(tuple(elements, "b", 2), TupleMapperPlansTest.TestDestination.class);
+            assertEquals("a", row.getName());
+            assertEquals(2, metrics.get("TupleMapping", destination, "Rows"));
+            assertTrue(metrics.get("TupleMapping", destination, "TimeNanos") > 0);
+
+            assertEquals(7L, Mapper.convert(tuple(elements("count"), 7L), Long.class));
+            assertEquals(1, metrics.get("TupleMapping", Long.class.getName(), "Rows"));
+        } finally {
+            CodeHibernateMonitoring.disable();
+            metrics.close();
+        }
+    }
+
+    @Test
+    void testCodecMetrics() throws Exception {
+        var metrics = new CodeHibernateJmxMetrics(MBeanServerFactory.newMBeanServer());
+        var resolved = new AtomicInteger();
+        var codes = CodeEnumCodes.register(TestEnum.class, v -> 10 + v.ordinal());
+        try {
+            CodeHibernateMonitoring.setMetrics(new CodeHibernateMetrics() {
+                @Override
+                public EnumMetrics enumMetrics(Class<?> type) {
+                    resolved.incrementAndGet();
+                    return metrics.enumMetrics(type);
+                }
+            });
+            var codec = new CodeEnumCodec<CodeEnum>(new CodeEnumJavaType(TestEnum.class), TinyIntJdbcType.INSTANCE, (CodeEnumCodes) codes);
+
+            //Values decoded through the code table are counted by the codec
+            assertSame(TestEnum.TWO, codec.read(resultSet((short) 11), 1, null));
+            assertTrue(codec.read(resultSet((short) 1), 1, null).unknown());
+            assertTrue(codec.read(resultSet((short) 1), 1, null).unknown());
+            codec.write(statement(new ArrayList<>()), TestEnum.THREE, 1, null);
+            assertNull(codec.read(resultSet(null), 1, null));
+
+            assertEquals(4, metrics.get("CodeEnum", TestEnum.class.getName(), "Conversions"));
+            assertEquals(2, metrics.get("CodeEnum", TestEnum.class.getName(), "UnknownValues"));
+            //Once by the codec and once by the unknown values of the enum type
+            assertEquals(2, resolved.get());
+        } finally {
+            CodeHibernateMonitoring.disable();
+            metrics.close();
+            CodeEnumCodes.unregister(TestEnum.class);
+        }
+    }
+
+}
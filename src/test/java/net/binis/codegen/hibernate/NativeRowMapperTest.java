@@ -0,0 +1,117 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import lombok.Data;
+import net.binis.codegen.hibernate.objects.TestEnum;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.sql.DriverManager;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class NativeRowMapperTest {
+
+    @BeforeAll
+    static void init() {
+        CodeHibernate.initialize();
+    }
+
+    @Test
+    void testResultSet() throws Exception {
+        var id = UUID.randomUUID();
+        try (var connection = DriverManager.getConnection("jdbc:h2:mem:native")) {
+            connection.createStatement().execute("create table test_enums (id uuid, test_enum varchar(10), test_enum_number smallint)");
+            try (var st = connection.prepareStatement("insert into test_enums values (?, ?, ?)")) {
+                st.setObject(1, id);
+                st.setString(2, "THREE");
+                st.setShort(3, (short) 1);
+                st.execute();
+            }
+
+            var sql = "select id, test_enum, test_enum_number from test_enums";
+            var misses = 0L;
+            for (var i = 0; i < 2; i++) {
+                if (i == 1) {
+                    misses = TupleMapperPlans.getMisses();
+                }
+                try (var rs = connection.createStatement().executeQuery(sql)) {
+                    var result = NativeRowMapper.map(sql, rs, TestNativeDestination.class);
+                    assertEquals(1, result.size());
+                    assertEquals(id, result.get(0).getId());
+                    assertEquals(TestEnum.THREE, result.get(0).getTestEnum());
+                    assertEquals(TestEnum.TWO, result.get(0).getTestEnumNumber());
+                }
+            }
+            assertEquals(misses, TupleMapperPlans.getMisses());
+        }
+    }
+
+    @Test
+    void testRows() {
+        var mapper = new NativeRowMapper<>(new String[]{"TEST_ENUM", "ID"}, TestNativeRecord.class).rows();
+        assertEquals(new TestNativeRecord(null, TestEnum.ONE), mapper.apply(new Object[]{(short) 0, null}));
+        assertEquals(List.of("testEnum", "other"), List.of(NativeRowMapper.names(new String[]{"TESTENUM", "other"}, TestNativeDestination.class)));
+    }
+
+    @Test
+    void testSetterNames() {
+        assertEquals(List.of("id", "EQUALS", "wait", "hash_code"), List.of(NativeRowMapper.names(new String[]{"ID", "EQUALS", "wait", "hash_code"}, TestNativeDestination.class)));
+    }
+
+    @Test
+    void testNativePlanCache() throws Exception {
+        TupleMapperPlans.clear();
+        var max = TupleMapperPlans.getNativeMaxSize();
+        try (var connection = DriverManager.getConnection("jdbc:h2:mem:nativePlans")) {
+            TupleMapperPlans.setNativeMaxSize(2);
+            CodeHibernate.map(TupleMapperPlansTest.tuple(TupleMapperPlansTest.elements("name"), "a"), TupleMapperPlansTest.TestDestination.class);
+            for (var i = 0; i < 5; i++) {
+                var sql = "select " + i + " as id";
+                try (var rs = connection.createStatement().executeQuery(sql)) {
+                    NativeRowMapper.map(sql, rs, TestNativeDestination.class);
+                }
+            }
+            assertEquals(2, TupleMapperPlans.nativeSize());
+
+            //The tuple plans aren't evicted by the native ones
+            var misses = TupleMapperPlans.getMisses();
+            CodeHibernate.map(TupleMapperPlansTest.tuple(TupleMapperPlansTest.elements("name"), "b"), TupleMapperPlansTest.TestDestination.class);
+            assertEquals(misses, TupleMapperPlans.getMisses());
+        } finally {
+            TupleMapperPlans.setNativeMaxSize(max);
+        }
+    }
+
+    @Data
+    public static class TestNativeDestination {
+        private UUID id;
+        private TestEnum testEnum;
+        private TestEnum testEnumNumber;
+    }
+
+    public record TestNativeRecord(UUID id, TestEnum testEnum) {
+    }
+
+}
@@ -0,0 +1,116 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.cfg.spi.DomainDataRegionBuildingContext;
+import org.hibernate.cache.cfg.spi.DomainDataRegionConfig;
+import org.hibernate.cache.spi.support.DomainDataStorageAccess;
+import org.hibernate.cache.spi.support.RegionFactoryTemplate;
+import org.hibernate.cache.spi.support.StorageAccess;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+
+import java.io.*;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Local in-memory cache regions, storing the entries in serialized form like a distributed cache would
+ */
+public class TestRegionFactory extends RegionFactoryTemplate {
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> configValues) {
+        //Do nothing
+    }
+
+    @Override
+    protected void releaseFromUse() {
+        //Do nothing
+    }
+
+    @Override
+    protected DomainDataStorageAccess createDomainDataStorageAccess(DomainDataRegionConfig regionConfig, DomainDataRegionBuildingContext buildingContext) {
+        return new Storage();
+    }
+
+    @Override
+    protected StorageAccess createQueryResultsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new Storage();
+    }
+
+    @Override
+    protected StorageAccess createTimestampsRegionStorageAccess(String regionName, SessionFactoryImplementor sessionFactory) {
+        return new Storage();
+    }
+
+    protected static class Storage implements DomainDataStorageAccess {
+
+        private final Map<Object, byte[]> entries = new ConcurrentHashMap<>();
+
+        @Override
+        public Object getFromCache(Object key, SharedSessionContractImplementor session) {
+            var entry = entries.get(key);
+            if (entry == null) {
+                return null;
+            }
+            try (var stream = new ObjectInputStream(new ByteArrayInputStream(entry))) {
+                return stream.readObject();
+            } catch (IOException | ClassNotFoundException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        @Override
+        public void putIntoCache(Object key, Object value, SharedSessionContractImplementor session) {
+            var out = new ByteArrayOutputStream();
+            try (var stream = new ObjectOutputStream(out)) {
+                stream.writeObject(value);
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+            entries.put(key, out.toByteArray());
+        }
+
+        @Override
+        public boolean contains(Object key) {
+            return entries.containsKey(key);
+        }
+
+        @Override
+        public void evictData() {
+            entries.clear();
+        }
+
+        @Override
+        public void evictData(Object key) {
+            entries.remove(key);
+        }
+
+        @Override
+        public void release() {
+            entries.clear();
+        }
+
+    }
+
+}
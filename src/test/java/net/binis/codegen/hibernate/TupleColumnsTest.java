@@ -0,0 +1,101 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.hibernate.objects.TestEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.elements;
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.results;
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.tuple;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleColumnsTest {
+
+    @Test
+    void testColumns() {
+        var rows = TupleColumns.CHUNK_SIZE * 2 + 7;
+        var ids = IntStream.range(0, rows).mapToObj(i -> i % 5 == 0 ? null : new UUID(i, -i)).toList();
+        var elements = elements("count", "id", "testEnum", "name");
+        var tuples = IntStream.range(0, rows).mapToObj(i -> tuple(elements, i, ids.get(i), i % 3 == 0 ? TestEnum.ONE : (short) (i % 3), "n" + i)).toList();
+
+        var columns = CodeHibernate.columns(results(tuples), new TupleColumns()
+                .uuid("id")
+                .codeEnum("testEnum", TestEnum.class)
+                .longs("count"));
+        assertEquals(rows, columns.size());
+
+        TupleColumns.UuidColumn uuids = columns.column("id");
+        TupleColumns.EnumColumn<TestEnum> enums = columns.column("testEnum");
+        TupleColumns.LongColumn counts = columns.column("count");
+        for (var i = 0; i < rows; i++) {
+            assertEquals(ids.get(i), uuids.get(i));
+            assertEquals(i % 3, enums.getOrdinal(i));
+            assertEquals(i, counts.get(i));
+        }
+        assertTrue(uuids.isNull(0));
+        assertEquals(-1L, uuids.toArray()[3]);
+        assertEquals(rows, counts.toArray().length);
+        assertEquals(rows - 1, counts.toArray()[rows - 1]);
+        assertEquals(List.of(TestEnum.ONE, TestEnum.TWO, TestEnum.THREE), enums.values().subList(0, 3));
+        assertEquals(TestEnum.THREE, enums.get(TupleColumns.CHUNK_SIZE + 1));
+    }
+
+    @Test
+    void testWideValues() {
+        var elements = elements("testEnum");
+        var columns = CodeHibernate.columns(results(List.of(
+                tuple(elements, "NINE"),
+                tuple(elements, 70000),
+                tuple(elements, TestEnum.TWO),
+                tuple(elements, "NINE"))), new TupleColumns()
+                .codeEnum("testEnum", TestEnum.class));
+
+        TupleColumns.EnumColumn<TestEnum> enums = columns.column("testEnum");
+        var named = enums.get(0);
+        assertTrue(named.unknown());
+        assertEquals("NINE", named.name());
+        assertSame(named, enums.get(3));
+
+        assertTrue(enums.get(1).unknown());
+        assertEquals(70000, enums.get(1).ordinal());
+        assertTrue(enums.isWide(1));
+        assertEquals(Short.MIN_VALUE, enums.getOrdinal(1));
+        assertFalse(enums.isWide(2));
+        assertEquals(List.of(named, enums.get(1), TestEnum.TWO, named), enums.values());
+    }
+
+    @Test
+    void testMissingColumn() {
+        var columns = new TupleColumns().ints("count").objects("name", String.class);
+        columns.add(tuple(elements("name", "count"), "a", 1L));
+        assertEquals("a", columns.<TupleColumns.ObjectColumn<String>>column("name").get(0));
+        assertEquals(1, columns.<TupleColumns.IntColumn>column("count").get(0));
+        assertThrows(MapperException.class, () -> columns.add(tuple(elements("name"), "b")));
+        assertThrows(IllegalStateException.class, () -> columns.doubles("value"));
+    }
+
+}
@@ -0,0 +1,134 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.TupleElement;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.map.Mapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.beans.ConstructorProperties;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.elements;
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.tuple;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleConstructorMapperTest {
+
+    @BeforeAll
+    static void init() {
+        CodeHibernate.initialize();
+    }
+
+    @Test
+    void testRecord() {
+        var id = UUID.randomUUID();
+        var elements = elements("name", "id", "count");
+
+        var result = Mapper.convert(tuple(elements, "name", id.toString(), 5L), TestRecord.class);
+        assertEquals(new TestRecord(id, "name", 5), result);
+
+        result = Mapper.convert(tuple(elements("name"), "partial"), TestRecord.class);
+        assertEquals(new TestRecord(null, "partial", 0), result);
+
+        var list = CodeHibernate.map(IntStream.range(0, 10).mapToObj(i -> tuple(elements, "name" + i, null, i)).toList(), TestRecord.class);
+        assertEquals(10, list.size());
+        assertEquals(new TestRecord(null, "name9", 9), list.get(9));
+    }
+
+    @Test
+    void testAllArgs() {
+        assertTrue(TupleConstructorMapper.isApplicable(TestAllArgs.class));
+        assertFalse(TupleConstructorMapper.isApplicable(TupleMapperPlansTest.TestDestination.class));
+
+        var result = CodeHibernate.map(tuple(elements("count", "name"), 3, "all"), TestAllArgs.class);
+        assertEquals("all", result.name);
+        assertEquals(3, result.count);
+
+        var rows = CodeHibernate.stream(List.of(tuple(elements("name"), "a"), tuple(elements("name"), "b")).stream(), TestAllArgs.class)
+                .map(r -> r.name).toList();
+        assertEquals(List.of("a", "b"), rows);
+
+        assertThrows(MapperException.class, () -> CodeHibernate.map(tuple(elements("other"), 1), TestAllArgs.class));
+    }
+
+    @Test
+    void testNoMatch() {
+        assertFalse(TupleConstructorMapper.isApplicable(BigDecimal.class));
+
+        //No component matched, instead of a record with all fields null
+        assertThrows(MapperException.class, () -> CodeHibernate.map(tuple(elements("other"), 1), TestRecord.class));
+
+        //Both constructors match two aliases with nothing left over
+        assertThrows(MapperException.class, () -> CodeHibernate.map(tuple(elements("name", "count", "size"), "a", 1, 2L), TestAmbiguous.class));
+        assertEquals("b", CodeHibernate.map(tuple(elements("name", "count"), "b", 1), TestAmbiguous.class).name);
+    }
+
+    @Test
+    void testRejectedColumns() {
+        var rejected = TupleMapperPlans.getRejectedColumns();
+        List<TupleElement<?>> elements = List.of(new TupleMapperPlansTest.TestElement("name", String.class), new TupleMapperPlansTest.TestElement("count", LocalDate.class));
+
+        //The column is dropped when the plan is built, not on every row
+        var list = CodeHibernate.map(List.of(tuple(elements, "a", LocalDate.now()), tuple(elements, "b", LocalDate.now())), TestRecord.class);
+        assertEquals(List.of(new TestRecord(null, "a", 0), new TestRecord(null, "b", 0)), list);
+        assertEquals(rejected + 1, TupleMapperPlans.getRejectedColumns());
+    }
+
+    public record TestRecord(UUID id, String name, int count) {
+    }
+
+    public static class TestAmbiguous {
+
+        private final String name;
+
+        @ConstructorProperties({"name", "count"})
+        public TestAmbiguous(String name, int count) {
+            this.name = name;
+        }
+
+        @ConstructorProperties({"name", "size"})
+        public TestAmbiguous(String name, long size) {
+            this.name = name;
+        }
+
+    }
+
+    public static class TestAllArgs {
+
+        private final String name;
+        private final int count;
+
+        @ConstructorProperties({"name", "count"})
+        public TestAllArgs(String name, int count) {
+            this.name = name;
+            this.count = count;
+        }
+
+    }
+
+}
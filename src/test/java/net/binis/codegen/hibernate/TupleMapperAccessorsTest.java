@@ -0,0 +1,109 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.Test;
+
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.ArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleMapperAccessorsTest {
+
+    @Test
+    void testSetter() throws Exception {
+        var value = new TestValue();
+
+        TupleMapperAccessors.setter(TestValue.class.getMethod("setCount", int.class)).accept(value, 5);
+        assertEquals(5, value.count);
+
+        TupleMapperAccessors.setter(TestValue.class.getMethod("name", String.class)).accept(value, "fluent");
+        assertEquals("fluent", value.name);
+
+        var hidden = TestValue.class.getDeclaredMethod("hidden", String.class);
+        hidden.setAccessible(true);
+        TupleMapperAccessors.setter(hidden).accept(value, "hidden");
+        assertEquals("hidden", value.name);
+
+        assertThrows(ClassCastException.class, () -> TupleMapperAccessors.setter(TestValue.class.getMethod("setCount", int.class)).accept(value, "text"));
+    }
+
+    @Test
+    void testGetter() throws Exception {
+        var value = new TestValue();
+        value.count = 3;
+
+        assertEquals(3, TupleMapperAccessors.getter(TestValue.class.getMethod("getCount")).apply(value));
+    }
+
+    @Test
+    void testInaccessible() throws Exception {
+        var value = new TestValue();
+
+        //Made accessible on demand, like the reflective invoke did
+        TupleMapperAccessors.setter(TestValue.class.getDeclaredMethod("hidden", String.class)).accept(value, "opened");
+        assertEquals("opened", value.name);
+
+        //Not opened to this module, the column is skipped
+        assertNull(TupleMapperAccessors.setter(ArrayList.class.getDeclaredMethod("grow", int.class)));
+        assertNull(TupleMapperAccessors.getter(ArrayList.class.getDeclaredMethod("grow")));
+    }
+
+    @Test
+    void testChildClassLoader() throws Exception {
+        var location = TestValue.class.getProtectionDomain().getCodeSource().getLocation();
+        try (var loader = new URLClassLoader(new URL[]{location}, ClassLoader.getPlatformClassLoader())) {
+            var cls = loader.loadClass(TestValue.class.getName());
+            assertNotSame(TestValue.class, cls);
+            var value = cls.getConstructor().newInstance();
+
+            TupleMapperAccessors.setter(cls.getMethod("setCount", int.class)).accept(value, 7);
+            assertEquals(7, TupleMapperAccessors.getter(cls.getMethod("getCount")).apply(value));
+        }
+    }
+
+    public static class TestValue {
+
+        private int count;
+        private String name;
+
+        public int getCount() {
+            return count;
+        }
+
+        public void setCount(int count) {
+            this.count = count;
+        }
+
+        public TestValue name(String name) {
+            this.name = name;
+            return this;
+        }
+
+        private void hidden(String name) {
+            this.name = name;
+        }
+
+    }
+
+}
@@ -0,0 +1,54 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.hibernate.objects.TestEnum;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleMapperConversionsTest {
+
+    @Test
+    void testConversions() {
+        var uuid = UUID.randomUUID();
+
+        assertEquals(TestEnum.TWO, TupleMapperConversions.conversion(Short.class, TestEnum.class).apply((short) 1));
+        assertEquals(TestEnum.THREE, TupleMapperConversions.conversion(String.class, TestEnum.class).apply("THREE"));
+        assertEquals(uuid, TupleMapperConversions.conversion(String.class, UUID.class).apply(uuid.toString()));
+        assertEquals(5, TupleMapperConversions.conversion(Long.class, int.class).apply(5L));
+        assertEquals("ONE", TupleMapperConversions.conversion(TestEnum.ONE.getClass(), String.class).apply(TestEnum.ONE));
+        assertSame(TupleMapperConversions.conversion(Short.class, TestEnum.class), TupleMapperConversions.conversion(Short.class, TestEnum.class));
+    }
+
+    @Test
+    void testConverter() {
+        var converter = TupleMapperConversions.converter(Object.class, TestEnum.class);
+
+        assertEquals(TestEnum.ONE, converter.apply((short) 0));
+        assertEquals(TestEnum.TWO, converter.apply("TWO"));
+        assertEquals(TestEnum.THREE, converter.apply(2));
+        assertSame(TestEnum.THREE, converter.apply(TestEnum.THREE));
+    }
+
+}
@@ -0,0 +1,114 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.TupleElement;
+import net.binis.codegen.map.Mapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.elements;
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.results;
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.tuple;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleMapperDefinitionsTest {
+
+    @BeforeAll
+    static void init() {
+        CodeHibernate.initialize();
+    }
+
+    @Test
+    void testProvider() {
+        assertNotNull(TupleMapperDefinitions.find(TestProjection.class));
+        assertNotNull(TupleMapperDefinitions.find(TestProjectionImpl.class));
+
+        //No setters, only the definition can map it
+        var result = Mapper.convert(tuple(elements("name", "count", "other"), "name", 5L, "other"), TestProjectionImpl.class);
+        assertEquals("name", result.name());
+        assertEquals(5, result.count());
+
+        var list = CodeHibernate.map(List.of(tuple(elements("count"), 1), tuple(elements("count"), 2)), TestProjection.class);
+        assertEquals(2, list.get(1).count());
+    }
+
+    @Test
+    void testReuse() {
+        var elements = elements("name", "count");
+        var names = new StringBuilder();
+        CodeHibernate.forEach(results(List.of(tuple(elements, "a", 1), tuple(elements, null, null))), TestProjectionImpl.class, p ->
+                names.append(p.name()).append(':').append(p.count()).append(' '));
+        assertEquals("a:1 null:0 ", names.toString());
+    }
+
+    @Test
+    void testRejectedColumns() {
+        var rejected = TupleMapperPlans.getRejectedColumns();
+        List<TupleElement<?>> elements = List.of(new TupleMapperPlansTest.TestElement("name", String.class), new TupleMapperPlansTest.TestElement("count", LocalDate.class));
+
+        //The column is dropped when the plan is built, not on every row
+        var list = CodeHibernate.map(List.of(tuple(elements, "a", LocalDate.now()), tuple(elements, "b", LocalDate.now())), TestProjectionImpl.class);
+        assertEquals("b", list.get(1).name());
+        assertEquals(0, list.get(1).count());
+        assertEquals(rejected + 1, TupleMapperPlans.getRejectedColumns());
+    }
+
+    public interface TestProjection {
+        String name();
+
+        int count();
+    }
+
+    public static class TestProjectionImpl implements TestProjection {
+
+        private String name;
+        private int count;
+
+        @Override
+        public String name() {
+            return name;
+        }
+
+        @Override
+        public int count() {
+            return count;
+        }
+
+    }
+
+    public static class TestProvider implements TupleMapperProvider {
+
+        @Override
+        public Collection<TupleMapperDefinition<?>> definitions() {
+            return List.of(TupleMapperDefinition.builder(TestProjection.class, TestProjectionImpl::new)
+                    .property("name", String.class, (p, v) -> ((TestProjectionImpl) p).name = v)
+                    .property("count", int.class, (p, v) -> ((TestProjectionImpl) p).count = v)
+                    .build());
+        }
+
+    }
+
+}
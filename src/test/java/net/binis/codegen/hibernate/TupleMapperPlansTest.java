@@ -0,0 +1,285 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import lombok.Data;
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.map.Mapper;
+import org.hibernate.ScrollableResults;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleMapperPlansTest {
+
+    @BeforeAll
+    static void init() {
+        CodeHibernate.initialize();
+    }
+
+    @Test
+    void testPlanReuse() {
+        TupleMapperPlans.clear();
+        var elements = elements("id", "name", "count");
+        var misses = TupleMapperPlans.getMisses();
+
+        for (var i = 0; i < 100; i++) {
+            var id = UUID.randomUUID();
+            var result = Mapper.convert(tuple(elements, id, "name" + i, i), TestDestination.class);
+            assertEquals(id, result.getId());
+            assertEquals("name" + i, result.getName());
+            assertEquals(i, result.getCount());
+        }
+        assertEquals(misses + 1, TupleMapperPlans.getMisses());
+
+        //Same signature, different element list
+        var result = Mapper.convert(tuple(elements("id", "name", "count"), null, "other", 5L), TestDestination.class);
+        assertEquals("other", result.getName());
+        assertEquals(5, result.getCount());
+        assertEquals(misses + 1, TupleMapperPlans.getMisses());
+
+        result = Mapper.convert(tuple(elements("name"), "single"), TestDestination.class);
+        assertEquals("single", result.getName());
+        assertEquals(misses + 2, TupleMapperPlans.getMisses());
+        assertEquals(2, TupleMapperPlans.size());
+    }
+
+    @Test
+    void testRecentPerThread() throws Exception {
+        TupleMapperPlans.clear();
+        var elements = elements("id", "name", "count");
+        var other = elements("name");
+        var misses = TupleMapperPlans.getMisses();
+
+        assertEquals("a", Mapper.convert(tuple(elements, null, "a", 1), TestDestination.class).getName());
+        var thread = new Thread(() -> Mapper.convert(tuple(other, "b"), TestDestination.class));
+        thread.start();
+        thread.join();
+        assertEquals("c", Mapper.convert(tuple(elements, null, "c", 2), TestDestination.class).getName());
+        assertEquals(misses + 2, TupleMapperPlans.getMisses());
+
+        //Clearing from another thread drops the last plan of this one too
+        thread = new Thread(TupleMapperPlans::clear);
+        thread.start();
+        thread.join();
+        assertEquals("d", Mapper.convert(tuple(elements, null, "d", 3), TestDestination.class).getName());
+        assertEquals(misses + 3, TupleMapperPlans.getMisses());
+    }
+
+    @Test
+    void testEviction() {
+        TupleMapperPlans.clear();
+        var max = TupleMapperPlans.getMaxSize();
+        try {
+            TupleMapperPlans.setMaxSize(2);
+            Mapper.convert(tuple(elements("id"), UUID.randomUUID()), TestDestination.class);
+            Mapper.convert(tuple(elements("name"), "a"), TestDestination.class);
+            Mapper.convert(tuple(elements("count"), 1), TestDestination.class);
+            assertEquals(2, TupleMapperPlans.size());
+        } finally {
+            TupleMapperPlans.setMaxSize(max);
+        }
+    }
+
+    @Test
+    void testRejectedColumns() {
+        TupleMapperPlans.clear();
+        var rejected = TupleMapperPlans.getRejectedColumns();
+        var elements = List.<TupleElement<?>>of(new TestElement("id", Boolean.class), new TestElement("name", String.class), new TestElement("count", UUID.class));
+
+        //Columns are checked by their declared types
+        var result = CodeHibernate.map(tuple(elements, true, "a", UUID.randomUUID()), TestDestination.class);
+        assertEquals("a", result.getName());
+        assertNull(result.getId());
+        assertEquals(0, result.getCount());
+        assertEquals(rejected + 2, TupleMapperPlans.getRejectedColumns());
+
+        result = CodeHibernate.map(tuple(elements, null, "b", null), TestDestination.class);
+        assertEquals("b", result.getName());
+        assertEquals(rejected + 2, TupleMapperPlans.getRejectedColumns());
+    }
+
+    @Test
+    void testValueErrors() {
+        TupleMapperPlans.clear();
+        var rejected = TupleMapperPlans.getRejectedColumns();
+        var elements = elements("id", "name", "count");
+
+        //Columns without a declared type are converted per value, a bad first row doesn't drop them from the plan
+        var exception = assertThrows(MapperException.class, () -> CodeHibernate.map(tuple(elements, "not an id", "a", 1), TestDestination.class));
+        assertTrue(exception.getMessage().contains("'id'"));
+
+        var id = UUID.randomUUID();
+        var result = CodeHibernate.map(tuple(elements, id.toString(), "b", 5), TestDestination.class);
+        assertEquals(id, result.getId());
+        assertEquals("b", result.getName());
+        assertEquals(5, result.getCount());
+        assertEquals(rejected, TupleMapperPlans.getRejectedColumns());
+    }
+
+    @Test
+    void testBulk() {
+        var threshold = CodeHibernate.getParallelThreshold();
+        try {
+            CodeHibernate.setParallelThreshold(100);
+            var elements = elements("id", "name", "count");
+            var tuples = IntStream.range(0, 5000).mapToObj(i -> tuple(elements, null, "name" + i, i)).toList();
+
+            var result = CodeHibernate.map(tuples, TestDestination.class);
+            assertEquals(5000, result.size());
+            for (var i = 0; i < result.size(); i++) {
+                assertEquals("name" + i, result.get(i).getName());
+                assertEquals(i, result.get(i).getCount());
+            }
+
+            assertTrue(CodeHibernate.map(List.of(), TestDestination.class).isEmpty());
+            assertEquals("single", CodeHibernate.map(List.of(tuple(elements("name"), "single")), TestDestination.class).get(0).getName());
+        } finally {
+            CodeHibernate.setParallelThreshold(threshold);
+        }
+    }
+
+    @Test
+    void testStream() {
+        var elements = elements("name", "count");
+        var tuples = List.of(tuple(elements, "a", 1), tuple(elements, null, 2));
+
+        assertEquals(List.of("a", 2), CodeHibernate.stream(tuples.stream(), TestDestination.class)
+                .map(d -> d.getName() != null ? d.getName() : d.getCount()).toList());
+
+        var results = results(tuples);
+        try (var stream = CodeHibernate.stream(results, TestDestination.class)) {
+            assertEquals(2, stream.count());
+        }
+        assertTrue(results.isClosed());
+
+        var rows = new ArrayList<String>();
+        var instances = Collections.newSetFromMap(new IdentityHashMap<TestDestination, Boolean>());
+        results = results(tuples);
+        assertEquals(2, CodeHibernate.forEach(results, TestDestination.class, d -> {
+            rows.add(d.getName() + ":" + d.getCount());
+            instances.add(d);
+        }));
+        assertEquals(List.of("a:1", "null:2"), rows);
+        assertEquals(1, instances.size());
+        assertTrue(results.isClosed());
+    }
+
+    @SuppressWarnings("unchecked")
+    static ScrollableResults<Tuple> results(List<Tuple> tuples) {
+        var position = new int[]{-1};
+        var closed = new boolean[]{false};
+        return (ScrollableResults<Tuple>) Proxy.newProxyInstance(ScrollableResults.class.getClassLoader(), new Class[]{ScrollableResults.class}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "next" -> ++position[0] < tuples.size();
+                    case "get" -> tuples.get(position[0]);
+                    case "close" -> closed[0] = true;
+                    case "isClosed" -> closed[0];
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    static List<TupleElement<?>> elements(String... aliases) {
+        return Arrays.stream(aliases).<TupleElement<?>>map(alias -> new TestElement(alias, Object.class)).toList();
+    }
+
+    static Tuple tuple(List<TupleElement<?>> elements, Object... values) {
+        return new TestTuple(elements, values);
+    }
+
+    @Data
+    public static class TestDestination {
+        private UUID id;
+        private String name;
+        private int count;
+    }
+
+    record TestElement(String alias, Class<?> javaType) implements TupleElement<Object> {
+
+        @Override
+        public Class<?> getJavaType() {
+            return javaType;
+        }
+
+        @Override
+        public String getAlias() {
+            return alias;
+        }
+
+    }
+
+    private record TestTuple(List<TupleElement<?>> elements, Object[] values) implements Tuple {
+
+        @Override
+        public <X> X get(TupleElement<X> tupleElement) {
+            return (X) values[elements.indexOf(tupleElement)];
+        }
+
+        @Override
+        public <X> X get(String alias, Class<X> type) {
+            return type.cast(get(alias));
+        }
+
+        @Override
+        public Object get(String alias) {
+            for (var i = 0; i < elements.size(); i++) {
+                if (alias.equals(elements.get(i).getAlias())) {
+                    return values[i];
+                }
+            }
+            throw new IllegalArgumentException(alias);
+        }
+
+        @Override
+        public <X> X get(int i, Class<X> type) {
+            return type.cast(values[i]);
+        }
+
+        @Override
+        public Object get(int i) {
+            return values[i];
+        }
+
+        @Override
+        public Object[] toArray() {
+            return values.clone();
+        }
+
+        @Override
+        public List<TupleElement<?>> getElements() {
+            return elements;
+        }
+
+    }
+
+}
@@ -0,0 +1,67 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleMapperTransformerTest {
+
+    @BeforeAll
+    static void init() {
+        CodeHibernate.initialize();
+    }
+
+    @Test
+    void testTransform() {
+        TupleMapperPlans.clear();
+        var misses = TupleMapperPlans.getMisses();
+        var transformer = CodeHibernate.transformer(TupleMapperPlansTest.TestDestination.class);
+        var aliases = new String[]{"id", "name", "count"};
+        var id = UUID.randomUUID();
+
+        var first = transformer.transformTuple(new Object[]{id, "a", 1}, aliases);
+        var second = transformer.transformTuple(new Object[]{null, "b", 2L}, aliases);
+        assertEquals(id, first.getId());
+        assertEquals("a", first.getName());
+        assertNull(second.getId());
+        assertEquals(2, second.getCount());
+        assertEquals(misses + 1, TupleMapperPlans.getMisses());
+
+        var other = transformer.transformTuple(new Object[]{"c"}, new String[]{"name"});
+        assertEquals("c", other.getName());
+        assertEquals(0, other.getCount());
+    }
+
+    @Test
+    void testRecord() {
+        var transformer = CodeHibernate.transformer(TupleConstructorMapperTest.TestRecord.class);
+        var aliases = new String[]{"count", "name"};
+
+        assertEquals(new TupleConstructorMapperTest.TestRecord(null, "a", 1), transformer.transformTuple(new Object[]{1, "a"}, aliases));
+        assertEquals(new TupleConstructorMapperTest.TestRecord(null, "b", 2), transformer.transformTuple(new Object[]{2, "b"}, aliases));
+    }
+
+}
@@ -0,0 +1,191 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import lombok.Getter;
+import lombok.Setter;
+import org.hibernate.Session;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleProjectionCacheTest {
+
+    private static final String QUERY = "select e.name as name from TestEntity e where e.id = ?1";
+
+    @BeforeEach
+    void enable() {
+        TupleProjectionCache.setEnabled(true);
+    }
+
+    @AfterEach
+    void disable() {
+        TupleProjectionCache.setEnabled(false);
+        TupleProjectionCache.setMaxSize(TupleProjectionCache.DEFAULT_MAX_SIZE);
+        TupleProjectionCache.setTtl(TupleProjectionCache.DEFAULT_TTL);
+    }
+
+    @Test
+    void testInvalidation() {
+        var loads = new AtomicInteger();
+        var entities = List.of(TestEntity.class.getName());
+
+        var first = TupleProjectionCache.get(QUERY, List.of(1), String.class, entities, () -> List.of("v" + loads.incrementAndGet()));
+        assertEquals(List.of("v1"), first);
+        assertSame(first, TupleProjectionCache.get(QUERY, List.of(1), String.class, entities, () -> List.of("v" + loads.incrementAndGet())));
+        assertEquals(List.of("v2"), TupleProjectionCache.get(QUERY, List.of(2), String.class, entities, () -> List.of("v" + loads.incrementAndGet())));
+
+        //Insert of a sub entity invalidates the queries reading its super type
+        new TupleProjectionCacheListener().onPostInsert(new PostInsertEvent(new TestSubEntity(), 1, new Object[0], persister(TestSubEntity.class), null));
+        assertEquals(List.of("v3"), TupleProjectionCache.get(QUERY, List.of(1), String.class, entities, () -> List.of("v" + loads.incrementAndGet())));
+
+        //Changed while loading
+        TupleProjectionCache.get(QUERY, List.of(3), String.class, entities, () -> {
+            TupleProjectionCache.invalidate(TestEntity.class.getName());
+            return List.of("v" + loads.incrementAndGet());
+        });
+        assertEquals(List.of("v5"), TupleProjectionCache.get(QUERY, List.of(3), String.class, entities, () -> List.of("v" + loads.incrementAndGet())));
+    }
+
+    @Test
+    void testEviction() throws Exception {
+        var loads = new AtomicInteger();
+        TupleProjectionCache.setMaxSize(2);
+        for (var i = 0; i < 5; i++) {
+            TupleProjectionCache.get(QUERY, List.of(i), String.class, List.of(), () -> List.of("v" + loads.incrementAndGet()));
+        }
+        assertEquals(2, TupleProjectionCache.size());
+
+        TupleProjectionCache.setTtl(Duration.ofMillis(1));
+        TupleProjectionCache.get(QUERY, List.of(-1), String.class, List.of(), () -> List.of("v" + loads.incrementAndGet()));
+        Thread.sleep(5);
+        assertEquals(List.of("v7"), TupleProjectionCache.get(QUERY, List.of(-1), String.class, List.of(), () -> List.of("v" + loads.incrementAndGet())));
+
+        TupleProjectionCache.setEnabled(false);
+        assertEquals(0, TupleProjectionCache.size());
+        TupleProjectionCache.get(QUERY, List.of(-1), String.class, List.of(), () -> List.of("v" + loads.incrementAndGet()));
+        assertEquals(0, TupleProjectionCache.size());
+    }
+
+    @Test
+    void testSessionInvalidation() {
+        CodeHibernate.initialize();
+        try (var factory = TestSessionFactory.build("projectionCache", ProjectionEntity.class)) {
+            factory.inTransaction(s -> {
+                var entity = new ProjectionEntity();
+                entity.setId(1L);
+                entity.setName("a");
+                s.persist(entity);
+            });
+
+            //Registered with the interface of the entity, as generated entities are
+            var read = (Supplier<List<String>>) () -> factory.fromTransaction(s ->
+                    CodeHibernate.cached(s.createQuery("select e.name as name from ProjectionEntities e where e.id = :id", Tuple.class).setParameter("id", 1L), String.class, ProjectionView.class));
+            assertEquals(List.of("a"), read.get());
+            var hits = TupleProjectionCache.getHits();
+            assertEquals(List.of("a"), read.get());
+            assertEquals(hits + 1, TupleProjectionCache.getHits());
+
+            factory.inTransaction(s -> s.find(ProjectionEntity.class, 1L).setName("b"));
+            assertEquals(List.of("b"), read.get());
+        }
+    }
+
+    @Test
+    void testCriteriaQueries() {
+        CodeHibernate.initialize();
+        try (var factory = TestSessionFactory.build("projectionCriteria", ProjectionEntity.class)) {
+            factory.inTransaction(s -> {
+                var entity = new ProjectionEntity();
+                entity.setId(1L);
+                entity.setName("a");
+                s.persist(entity);
+            });
+
+            //Both criteria queries report the same query string, bind the same value and map to the same destination
+            var names = factory.fromTransaction(s -> CodeHibernate.cached(criteria(s, false, 1L), String.class, ProjectionEntity.class));
+            var upper = factory.fromTransaction(s -> CodeHibernate.cached(criteria(s, true, 1L), String.class, ProjectionEntity.class));
+            var other = factory.fromTransaction(s -> CodeHibernate.cached(criteria(s, false, 2L), String.class, ProjectionEntity.class));
+            assertEquals(List.of("a"), names);
+            assertEquals(List.of("A"), upper);
+            assertEquals(List.of(), other);
+
+            var hits = TupleProjectionCache.getHits();
+            assertEquals(List.of("a"), factory.fromTransaction(s -> CodeHibernate.cached(criteria(s, false, 1L), String.class, ProjectionEntity.class)));
+            assertEquals(hits + 1, TupleProjectionCache.getHits());
+        }
+    }
+
+    private static TypedQuery<Tuple> criteria(Session session, boolean upper, Long id) {
+        var builder = session.getCriteriaBuilder();
+        var query = builder.createTupleQuery();
+        var root = query.from(ProjectionEntity.class);
+        var name = root.<String>get("name");
+        query.multiselect((upper ? builder.upper(name) : name).alias("name"));
+        query.where(builder.equal(root.get("id"), id));
+        return session.createQuery(query);
+    }
+
+    private static EntityPersister persister(Class<?> entity) {
+        return (EntityPersister) Proxy.newProxyInstance(EntityPersister.class.getClassLoader(), new Class[]{EntityPersister.class}, (proxy, method, args) ->
+                switch (method.getName()) {
+                    case "getEntityName" -> entity.getName();
+                    case "getMappedClass" -> entity;
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    public interface ProjectionView {
+    }
+
+    @Entity(name = "ProjectionEntities")
+    @Getter
+    @Setter
+    public static class ProjectionEntity implements ProjectionView {
+
+        @Id
+        private Long id;
+
+        private String name;
+
+    }
+
+    public static class TestEntity {
+    }
+
+    public static class TestSubEntity extends TestEntity {
+    }
+
+}
@@ -0,0 +1,59 @@
+package net.binis.codegen.hibernate;
+
+/*-
+ * #%L
+ * code-generator-hibernate
+ * %%
+ * Copyright (C) 2021 - 2026 Binis Belev
+ * %%
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * #L%
+ */
+
+import net.binis.codegen.exception.MapperException;
+import net.binis.codegen.hibernate.objects.TestEnum;
+import net.binis.codegen.map.Mapper;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.UUID;
+
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.elements;
+import static net.binis.codegen.hibernate.TupleMapperPlansTest.tuple;
+import static org.junit.jupiter.api.Assertions.*;
+
+class TupleScalarMapperTest {
+
+    @BeforeAll
+    static void init() {
+        CodeHibernate.initialize();
+    }
+
+    @Test
+    void testScalars() {
+        var id = UUID.randomUUID();
+        var elements = elements("id");
+
+        assertEquals(id, Mapper.convert(tuple(elements, id), UUID.class));
+        assertEquals(id, Mapper.convert(tuple(elements, id.toString()), UUID.class));
+        assertEquals("text", CodeHibernate.map(tuple(elements, "text"), String.class));
+        assertEquals(5L, Mapper.convert(tuple(elements, 5), Long.class));
+        assertEquals(TestEnum.TWO, Mapper.convert(tuple(elements, (short) 1), TestEnum.class));
+        assertNull(Mapper.convert(tuple(elements, new Object[]{null}), UUID.class));
+
+        assertEquals(List.of(1, 2), CodeHibernate.map(List.of(tuple(elements, 1L), tuple(elements, 2L)), Integer.class));
+        assertThrows(MapperException.class, () -> CodeHibernate.map(tuple(elements("id", "name"), id, "name"), UUID.class));
+    }
+
+}